@@ -0,0 +1,44 @@
+package com.starryforge.bench;
+
+import com.starryforge.features.forging.ForgingScoreCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 锻造评分：每次 QTE 后刷新全息面板时的平均值与最终星级计算。
+ * calculateModifier 依赖插件配置，此处只测纯计算部分。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ForgingScoreBenchmark {
+
+    private final ForgingScoreCalculator calculator = new ForgingScoreCalculator();
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < 9; i++) {
+            calculator.addMaterialStar(1 + i % 5);
+        }
+        for (int i = 0; i < 12; i++) {
+            calculator.addQteScore(0.4 + (i % 6) * 0.1);
+        }
+    }
+
+    @Benchmark
+    public double averages() {
+        return calculator.calculateAverageStar() + calculator.calculateAverageQteScore();
+    }
+
+    @Benchmark
+    public int finalStar() {
+        return calculator.calculateFinalStar(calculator.calculateAverageQteScore() - 0.5);
+    }
+}
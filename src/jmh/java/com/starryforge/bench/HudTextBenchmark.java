@@ -0,0 +1,49 @@
+package com.starryforge.bench;
+
+import com.starryforge.utils.HudText;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 动作栏渲染：每 tick 直接解析 MiniMessage 与 HudText 模板缓存的对比。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HudTextBenchmark {
+
+    private static final String RAW = "<gold>熔炼中 <gray>[{bar}<gray>] <yellow>{temp}°C <white>{time}s";
+    private static final String[] BARS = {
+            "<green>||||<dark_gray>||||||",
+            "<green>|||||<dark_gray>|||||",
+            "<green>||||||<dark_gray>||||" };
+
+    private final MiniMessage mm = MiniMessage.miniMessage();
+    private int tick;
+
+    @Benchmark
+    public Component directParse() {
+        int t = tick++;
+        String text = RAW.replace("{bar}", BARS[t % BARS.length])
+                .replace("{temp}", String.valueOf(1200 + (t & 7)))
+                .replace("{time}", String.valueOf(t % 20));
+        return mm.deserialize(text);
+    }
+
+    @Benchmark
+    public Component templateRender() {
+        int t = tick++;
+        return HudText.template(RAW).render(
+                "bar", BARS[t % BARS.length],
+                "temp", String.valueOf(1200 + (t & 7)),
+                "time", String.valueOf(t % 20));
+    }
+}
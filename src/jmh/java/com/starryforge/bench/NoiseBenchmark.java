@@ -0,0 +1,71 @@
+package com.starryforge.bench;
+
+import com.starryforge.features.core.NoiseKernel;
+import com.starryforge.features.core.NoiseManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 矿脉潜力查询：挖掘时的单点查询 (缓存命中/未命中) 与区域批量采样。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NoiseBenchmark {
+
+    private static final long SEED = 8675309L;
+
+    private NoiseManager manager;
+    private NoiseKernel kernel;
+    private final float[] region = new float[16 * 16 * 16];
+    private int cursor;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        // 与 NoiseManager 内部参数一致
+        kernel = new NoiseKernel(SEED, 0.005, 0.05, 0.1);
+        manager = new NoiseManager(SEED);
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    manager.getRawPotency(x, y, z);
+                }
+            }
+        }
+        cursor = 0;
+    }
+
+    @Benchmark
+    public double rawPotencyCached() {
+        int i = cursor++ & 4095;
+        return manager.getRawPotency(i & 15, i >> 8, (i >> 4) & 15);
+    }
+
+    @Benchmark
+    public double rawPotencyUncached() {
+        // 逐步走向未缓存的区块，模拟探索新区域
+        int i = cursor++;
+        return manager.getRawPotency(1024 + i, 40, i >> 4);
+    }
+
+    @Benchmark
+    public double kernelPotency() {
+        int i = cursor++;
+        return kernel.potency(i, 40, i >> 4);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public float[] sampleSection() {
+        manager.sampleBlock(0, 0, 0, 16, 16, 16, region);
+        return region;
+    }
+}
@@ -0,0 +1,91 @@
+package com.starryforge.bench;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import com.google.gson.Gson;
+import com.starryforge.features.ironheart.data.PDCAdapter;
+import com.starryforge.features.ironheart.data.model.IronHeartWeapon;
+import com.starryforge.features.ironheart.data.model.VeteranStats;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 铁心武器 PDC 读写：写入二进制数据、读取二进制与旧 JSON 数据、只读 uuid/revision 头。
+ * 物品与 ItemMeta 的 PDC 由 MockBukkit 提供。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PDCAdapterBenchmark {
+
+    private IronHeartWeapon weapon;
+    private ItemStack binaryItem;
+    private ItemStack legacyItem;
+    private ItemStack scratch;
+
+    @Setup
+    public void setup() {
+        MockBukkit.mock();
+        weapon = new IronHeartWeapon(
+                "5f0c7c0e-3f5e-4d8e-9a51-0b1e4c2d7a11",
+                "longsword",
+                3,
+                2,
+                new IronHeartWeapon.Integrity(870, 1000),
+                Map.of("blade", "starsteel_blade", "guard", "frost_guard", "hilt", "oak_hilt"),
+                Map.of("blade", 4, "guard", 3, "hilt", 2),
+                new IronHeartWeapon.StatsCache(9.5, -2.4, 0.5, 0.0),
+                new IronHeartWeapon.History("Smith", 1_700_000_000_000L, new VeteranStats(1520.5, 37, 1)));
+
+        binaryItem = new ItemStack(Material.IRON_SWORD);
+        PDCAdapter.writeWeaponData(binaryItem, weapon);
+
+        // 二进制编码之前写入的物品
+        legacyItem = new ItemStack(Material.IRON_SWORD);
+        ItemMeta meta = legacyItem.getItemMeta();
+        meta.getPersistentDataContainer().set(new NamespacedKey("starfield", "forge_data"),
+                PersistentDataType.STRING, new Gson().toJson(weapon));
+        legacyItem.setItemMeta(meta);
+
+        scratch = new ItemStack(Material.IRON_SWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Benchmark
+    public ItemStack write() {
+        PDCAdapter.writeWeaponData(scratch, weapon);
+        return scratch;
+    }
+
+    @Benchmark
+    public IronHeartWeapon readBinary() {
+        return PDCAdapter.readWeaponData(binaryItem);
+    }
+
+    @Benchmark
+    public IronHeartWeapon readLegacyJson() {
+        return PDCAdapter.readWeaponData(legacyItem);
+    }
+
+    @Benchmark
+    public PDCAdapter.WeaponKey readKey() {
+        return PDCAdapter.readWeaponKey(binaryItem.getPersistentDataContainer());
+    }
+}
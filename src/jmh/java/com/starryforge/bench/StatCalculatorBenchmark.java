@@ -0,0 +1,75 @@
+package com.starryforge.bench;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import com.starryforge.StarryForge;
+import com.starryforge.features.ironheart.data.model.QualifiedComponent;
+import com.starryforge.features.ironheart.data.model.WeaponComponent;
+import com.starryforge.features.ironheart.logic.StatCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 铁心武器属性计算：组装与属性刷新时对部件求和并检查共鸣。
+ * 共鸣配置来自插件自带的 resonance.yml，插件由 MockBukkit 加载。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatCalculatorBenchmark {
+
+    private StatCalculator calculator;
+    private List<QualifiedComponent> plain;
+    private List<QualifiedComponent> resonant;
+
+    @Setup
+    public void setup() {
+        ServerMock server = MockBukkit.mock();
+        server.addSimpleWorld("world");
+        StarryForge plugin = MockBukkit.loadWith(StarryForge.class, "plugin-loadtest.yml");
+        calculator = new StatCalculator(plugin.getIronHeartManager().getResonanceConfig());
+
+        plain = List.of(
+                component("IRON_HEAD", WeaponComponent.ComponentType.HEAD, 3, 6.0, -0.3, 0.0),
+                component("OAK_SHAFT", WeaponComponent.ComponentType.SHAFT, 2, 0.5, 0.1, 0.5),
+                component("LEATHER_GRIP", WeaponComponent.ComponentType.GRIP, 1, 0.0, 0.2, 0.0));
+        // 与 resonance.yml 中的共鸣部件一致
+        resonant = List.of(
+                component("FROSTBITE_BLADE", WeaponComponent.ComponentType.HEAD, 5, 7.0, -0.2, 0.0),
+                component("STARFALL_EDGE", WeaponComponent.ComponentType.SPINE, 4, 1.0, 0.1, 0.3),
+                component("VULCAN_SUNDERER", WeaponComponent.ComponentType.WEIGHT, 3, 2.0, -0.4, 0.0),
+                component("LEATHER_GRIP", WeaponComponent.ComponentType.GRIP, 1, 0.0, 0.2, 0.0));
+    }
+
+    private static QualifiedComponent component(String id, WeaponComponent.ComponentType type, int quality,
+            double damage, double speed, double reach) {
+        WeaponComponent base = new WeaponComponent(id, type, id, id, 0,
+                new WeaponComponent.ComponentStats(damage, speed, reach, 100, 10),
+                new WeaponComponent.ComponentRequirements(1), List.of());
+        return new QualifiedComponent(base, quality);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Benchmark
+    public StatCalculator.CalculationResult calculatePlain() {
+        return calculator.calculate(plain);
+    }
+
+    @Benchmark
+    public StatCalculator.CalculationResult calculateResonant() {
+        return calculator.calculate(resonant);
+    }
+}
@@ -0,0 +1,82 @@
+package com.starryforge.bench;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.WorldMock;
+import com.starryforge.features.multiblock.StructurePattern;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 多方块结构检测：完整结构命中，以及核心周围缺块时的快速排除。
+ * 世界由 MockBukkit 提供。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StructurePatternBenchmark {
+
+    private StructurePattern pattern;
+    private Block validCore;
+    private Block brokenCore;
+
+    @Setup
+    public void setup() {
+        MockBukkit.mock();
+        WorldMock world = new WorldMock(Material.AIR, 0);
+
+        // 3x3 底座 + 中心核心，与熔炉类结构规模相当
+        String[][] layers = {
+                { "BBB", "BBB", "BBB" },
+                { " C ", "CFC", " C " } };
+        pattern = new StructurePattern(layers, new Vector(1, 1, 1))
+                .addMatcher('B', Material.STONE_BRICKS)
+                .addMatcher('C', Material.COPPER_BLOCK)
+                .addMatcher('F', Material.BLAST_FURNACE);
+        pattern.precompile();
+
+        validCore = build(world, 0);
+        brokenCore = build(world, 16);
+        brokenCore.getRelative(BlockFace.NORTH).setType(Material.AIR);
+    }
+
+    private static Block build(WorldMock world, int originX) {
+        for (int x = 0; x < 3; x++) {
+            for (int z = 0; z < 3; z++) {
+                world.getBlockAt(originX + x, 64, z).setType(Material.STONE_BRICKS);
+            }
+        }
+        Block core = world.getBlockAt(originX + 1, 65, 1);
+        core.setType(Material.BLAST_FURNACE);
+        for (BlockFace face : new BlockFace[] { BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST }) {
+            core.getRelative(face).setType(Material.COPPER_BLOCK);
+        }
+        return core;
+    }
+
+    @TearDown
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Benchmark
+    public boolean checkValid() {
+        return pattern.check(validCore, BlockFace.NORTH);
+    }
+
+    @Benchmark
+    public boolean checkBroken() {
+        return pattern.check(brokenCore, BlockFace.NORTH);
+    }
+}
@@ -0,0 +1,67 @@
+package com.starryforge.bench;
+
+import com.google.gson.Gson;
+import com.starryforge.features.ironheart.data.WeaponCodec;
+import com.starryforge.features.ironheart.data.model.IronHeartWeapon;
+import com.starryforge.features.ironheart.data.model.VeteranStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 铁心武器数据：二进制编码与旧 JSON 格式的读写对比 (PDCAdapter 的核心开销)。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WeaponCodecBenchmark {
+
+    private final Gson gson = new Gson();
+    private IronHeartWeapon weapon;
+    private byte[] binary;
+    private String json;
+
+    @Setup
+    public void setup() {
+        weapon = new IronHeartWeapon(
+                "5f0c7c0e-3f5e-4d8e-9a51-0b1e4c2d7a11",
+                "longsword",
+                3,
+                2,
+                new IronHeartWeapon.Integrity(870, 1000),
+                Map.of("blade", "starsteel_blade", "guard", "frost_guard", "hilt", "oak_hilt"),
+                Map.of("blade", 4, "guard", 3, "hilt", 2),
+                new IronHeartWeapon.StatsCache(9.5, -2.4, 0.5, 0.0),
+                new IronHeartWeapon.History("Smith", 1_700_000_000_000L, new VeteranStats(1520.5, 37, 1)));
+        binary = WeaponCodec.encode(weapon);
+        json = gson.toJson(weapon);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return WeaponCodec.encode(weapon);
+    }
+
+    @Benchmark
+    public IronHeartWeapon decodeBinary() throws IOException {
+        return WeaponCodec.decode(binary);
+    }
+
+    @Benchmark
+    public String encodeJson() {
+        return gson.toJson(weapon);
+    }
+
+    @Benchmark
+    public IronHeartWeapon decodeJson() {
+        return gson.fromJson(json, IronHeartWeapon.class);
+    }
+}
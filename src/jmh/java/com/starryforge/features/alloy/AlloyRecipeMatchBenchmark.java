@@ -0,0 +1,94 @@
+package com.starryforge.features.alloy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 合金配方匹配：AlloyManager.matchRecipe 在解析物品 ID 之后的部分 (AlloyRecipeIndex.match)，
+ * 与按配置顺序线性扫描的对比。索引为包内可见，因此基准放在同一个包中。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AlloyRecipeMatchBenchmark {
+
+    private List<AlloyManager.AlloyRecipe> recipes;
+    private AlloyRecipeIndex index;
+    // 命中靠后的配方，多出一种无关物品
+    private Map<String, Integer> hit;
+    // 物品齐全但数量不足
+    private Map<String, Integer> miss;
+
+    @Setup
+    public void setup() {
+        // 与 recipes.yml 的规模和结构相当：每个配方三种输入，键已规范化
+        recipes = new ArrayList<>();
+        recipes.add(recipe("COMPRESSED_CARBON", "COAL", 4, "CHARCOAL", 4, "BIOMEGIFTS:LIGNITE", 2));
+        recipes.add(recipe("STAR_STEEL", "IRON_INGOT", 2, "OBSIDIAN", 1, "BIOMEGIFTS:RICH_SLAG", 2));
+        recipes.add(recipe("ROYAL_BULLION", "GOLD_INGOT", 2, "SUNFLOWER", 1, "BIOMEGIFTS:GOLD_DUST", 4));
+        recipes.add(recipe("FLUX_RING", "REDSTONE_BLOCK", 1, "QUARTZ", 2, "BIOMEGIFTS:CHARGED_DUST", 4));
+        recipes.add(recipe("FROSTHEART", "DIAMOND", 1, "BLUE_ICE", 2, "BIOMEGIFTS:ICE_SHARD", 2));
+        recipes.add(recipe("ABYSSAL_MITHRIL", "IRON_INGOT", 2, "PRISMARINE_CRYSTALS", 4, "BIOMEGIFTS:TIDE_ESSENCE", 2));
+        recipes.add(recipe("MALACHITE_ALLOY", "COPPER_INGOT", 4, "AMETHYST_SHARD", 2, "BIOMEGIFTS:COPPER_CRYSTAL", 2));
+        recipes.add(recipe("IMPERIAL_JADE", "EMERALD", 2, "LIME_DYE", 1, "BIOMEGIFTS:JADE_SHARD", 2));
+        index = AlloyRecipeIndex.build(recipes);
+
+        hit = Map.of("EMERALD", 3, "LIME_DYE", 1, "BIOMEGIFTS:JADE_SHARD", 2, "COAL", 1);
+        miss = Map.of("IRON_INGOT", 1, "OBSIDIAN", 1, "BIOMEGIFTS:RICH_SLAG", 2);
+    }
+
+    private static AlloyManager.AlloyRecipe recipe(String result, Object... inputs) {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        for (int i = 0; i < inputs.length; i += 2) {
+            map.put((String) inputs[i], (Integer) inputs[i + 1]);
+        }
+        return new AlloyManager.AlloyRecipe(result, map, 5, 1000.0, 1.0, 1.0, 1.0, true);
+    }
+
+    @Benchmark
+    public AlloyManager.AlloyRecipe indexHit() {
+        return index.match(hit);
+    }
+
+    @Benchmark
+    public AlloyManager.AlloyRecipe indexMiss() {
+        return index.match(miss);
+    }
+
+    @Benchmark
+    public AlloyManager.AlloyRecipe scanHit() {
+        return scan(hit);
+    }
+
+    @Benchmark
+    public AlloyManager.AlloyRecipe scanMiss() {
+        return scan(miss);
+    }
+
+    // 建立索引之前的匹配方式
+    private AlloyManager.AlloyRecipe scan(Map<String, Integer> counts) {
+        for (AlloyManager.AlloyRecipe recipe : recipes) {
+            boolean ok = true;
+            for (Map.Entry<String, Integer> req : recipe.inputs().entrySet()) {
+                if (counts.getOrDefault(req.getKey(), 0) < req.getValue()) {
+                    ok = false;
+                    break;
+                }
+            }
+            if (ok)
+                return recipe;
+        }
+        return null;
+    }
+}
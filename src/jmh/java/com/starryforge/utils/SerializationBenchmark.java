@@ -0,0 +1,83 @@
+package com.starryforge.utils;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 物品序列化：旧 Base64 格式的往返与从 PDC 读取，以及多槽位容器的封装/解析。
+ * MockBukkit 未实现 serializeAsBytes，Paper 二进制编码本身需在真实服务端测量；
+ * 容器封装为包内可见，因此基准放在同一个包中。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SerializationBenchmark {
+
+    private static final NamespacedKey KEY = new NamespacedKey("starryforge", "bench_item");
+
+    private ItemStack item;
+    private String legacy;
+    private PersistentDataContainer pdc;
+    // 熔炉输入槽规模的容器，每槽约 200 字节
+    private final byte[][] slots = new byte[9][];
+    private byte[] container;
+
+    @Setup
+    public void setup() throws IOException {
+        MockBukkit.mock();
+        item = new ItemStack(Material.IRON_INGOT, 16);
+        legacy = SerializationUtils.itemToBase64(item);
+
+        ItemMeta holder = new ItemStack(Material.STONE).getItemMeta();
+        pdc = holder.getPersistentDataContainer();
+        pdc.set(KEY, PersistentDataType.STRING, legacy);
+
+        for (int i = 0; i < slots.length; i++) {
+            if (i % 3 != 2) {
+                slots[i] = new byte[200 + i];
+            }
+        }
+        container = SerializationUtils.frame(slots);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Benchmark
+    public ItemStack legacyRoundTrip() throws IOException {
+        return SerializationUtils.itemFromBase64(SerializationUtils.itemToBase64(item));
+    }
+
+    @Benchmark
+    public ItemStack legacyPdcRead() throws IOException {
+        return SerializationUtils.readItem(pdc, KEY);
+    }
+
+    @Benchmark
+    public byte[] frameContainer() throws IOException {
+        return SerializationUtils.frame(slots);
+    }
+
+    @Benchmark
+    public byte[][] unframeContainer() throws IOException {
+        return SerializationUtils.unframe(container);
+    }
+}
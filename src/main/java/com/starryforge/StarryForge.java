@@ -28,6 +28,7 @@ public class StarryForge extends JavaPlugin {
 
     private static StarryForge instance;
     private NoiseManager noiseManager;
+    private AntiExploitListener antiExploitListener;
     private SFItemManager itemManager;
     private ConfigManager configManager;
     private ResonatorManager resonatorManager;
@@ -44,6 +45,7 @@ public class StarryForge extends JavaPlugin {
     private com.starryforge.features.items.frostsigh.FrostMarkManager frostMarkManager;
     private com.starryforge.features.scrap.ScrapManager scrapManager;
     private com.starryforge.features.ironheart.IronHeartManager ironHeartManager;
+    private com.starryforge.features.core.PerfMonitor perfMonitor;
 
     @Override
     public void onEnable() {
@@ -54,6 +56,7 @@ public class StarryForge extends JavaPlugin {
             // 初始化管理器
             LogUtil.init(this);
             this.configManager = new ConfigManager(this);
+            this.perfMonitor = new com.starryforge.features.core.PerfMonitor(this);
 
             // FrostMarkManager (Standalone, no dependencies)
             this.frostMarkManager = new com.starryforge.features.items.frostsigh.FrostMarkManager(this);
@@ -100,10 +103,12 @@ public class StarryForge extends JavaPlugin {
             this.ironHeartManager = new com.starryforge.features.ironheart.IronHeartManager(this);
 
             // 注册监听器
+            getServer().getPluginManager().registerEvents(this.noiseManager, this);
             getServer().getPluginManager().registerEvents(new GlobalDropListener(miningManager), this);
             getServer().getPluginManager().registerEvents(new AnvilListener(), this);
             getServer().getPluginManager().registerEvents(this.resonatorListener, this);
-            getServer().getPluginManager().registerEvents(new AntiExploitListener(), this);
+            this.antiExploitListener = new AntiExploitListener(this);
+            getServer().getPluginManager().registerEvents(this.antiExploitListener, this);
             getServer().getPluginManager().registerEvents(new com.starryforge.features.forging.ForgingListener(this),
                     this);
             getServer().getPluginManager()
@@ -129,6 +134,8 @@ public class StarryForge extends JavaPlugin {
             // 机器监听器
             getServer().getPluginManager().registerEvents(this.sluiceManager, this);
             getServer().getPluginManager().registerEvents(new SluiceListener(this.sluiceManager), this);
+            getServer().getPluginManager().registerEvents(this.multiBlockManager, this);
+            getServer().getPluginManager().registerEvents(this.thermodynamicsManager, this);
             getServer().getPluginManager().registerEvents(this.alloyManager, this);
             getServer().getPluginManager().registerEvents(new com.starryforge.features.alloy.ReheatListener(this),
                     this);
@@ -179,20 +186,7 @@ public class StarryForge extends JavaPlugin {
                 getLogger().warning("Failed to load Nexus recipes: " + e.getMessage());
             }
 
-            // Force update all items again to ensure RPG stats are applied (Double Check)
-            if (getServer().getPluginManager().isPluginEnabled("NexusCore")) {
-                getLogger().info("Performing final RPG attribute refresh...");
-                for (String key : itemManager.getItemNames()) {
-                    ItemStack item = itemManager.getItem(key);
-                    if (item != null) {
-                        try {
-                            com.nexuscore.NexusCore.getInstance().getRpgManager().updateItemAttributes(item);
-                        } catch (Exception e) {
-                            getLogger().warning("Final refresh failed for " + key + ": " + e.getMessage());
-                        }
-                    }
-                }
-            }
+            // RPG 属性在物品模板首次获取时计算 (SFItemManager.getTemplate)，此处无需再次刷新
 
             getServer().getPluginManager().registerEvents(new org.bukkit.event.Listener() {
                 @org.bukkit.event.EventHandler
@@ -201,6 +195,7 @@ public class StarryForge extends JavaPlugin {
                         getLogger().info("NexusCore re-enabled detected. Re-registering modules...");
                         registerWithNexusCore();
                         registerRpgComponents();
+                        itemManager.refreshTemplates();
                     }
                 }
             }, this);
@@ -249,6 +244,16 @@ public class StarryForge extends JavaPlugin {
         if (frostMarkManager != null) {
             frostMarkManager.stop();
         }
+        if (antiExploitListener != null) {
+            antiExploitListener.saveAll();
+        }
+        if (perfMonitor != null && perfMonitor.isEnabled()) {
+            // 关服时输出本次运行的性能汇总
+            for (String line : perfMonitor.summary()) {
+                getLogger().info("[Perf] " + line);
+            }
+            perfMonitor.stop();
+        }
         getLogger().info("StarryForge has been disabled.");
     }
 
@@ -288,6 +293,9 @@ public class StarryForge extends JavaPlugin {
         this.configManager.loadConfig();
         this.itemManager.reload();
         this.alloyManager.loadConfig(); // Reload recipes
+        this.forgingRecipeManager.reload();
+        com.starryforge.utils.HudText.clear();
+        this.perfMonitor.configure(configManager.getSettings().perf());
         registerWithNexusCore();
     }
 
@@ -315,6 +323,10 @@ public class StarryForge extends JavaPlugin {
         return configManager;
     }
 
+    public com.starryforge.features.core.PerfMonitor getPerfMonitor() {
+        return perfMonitor;
+    }
+
     public SluiceManager getSluiceManager() {
         return sluiceManager;
     }
@@ -55,9 +55,8 @@ public class StarryForgeCommand implements CommandExecutor, TabCompleter {
                 return handleBlueprint(sender, args);
             case "list":
                 if (sender.hasPermission("starryforge.admin")) {
-                    sender.sendMessage(MiniMessage.miniMessage()
-                            .deserialize(plugin.getConfigManager().getMessage("commands.list_header")));
-                    String tooltip = plugin.getConfigManager().getMessage("commands.list_item_tooltip");
+                    sender.sendMessage(plugin.getConfigManager().getMessageComponent(sender, "commands.list_header"));
+                    String tooltip = plugin.getConfigManager().getMessage(sender, "commands.list_item_tooltip");
                     for (String id : plugin.getItemManager().getItemNames()) {
                         sender.sendMessage(MiniMessage.miniMessage().deserialize("<gray>- <click:run_command:'/sf give "
                                 + id + "'><hover:show_text:'" + tooltip + "'>" + id + "</hover></click>"));
@@ -67,14 +66,15 @@ public class StarryForgeCommand implements CommandExecutor, TabCompleter {
                 break;
             case "visualizenoise":
                 return handleVisualizeNoise(sender);
+            case "profile":
+                return handleProfile(sender, args);
         }
         return true;
     }
 
     private boolean handleBlueprint(CommandSender sender, String[] args) {
         if (!(sender instanceof Player player)) {
-            sender.sendMessage(
-                    MiniMessage.miniMessage().deserialize(plugin.getConfigManager().getMessage("commands.no_console")));
+            sender.sendMessage(plugin.getConfigManager().getMessageComponent(sender, "commands.no_console"));
             return true;
         }
 
@@ -142,8 +142,7 @@ public class StarryForgeCommand implements CommandExecutor, TabCompleter {
                     return true;
                 }
             } else {
-                sender.sendMessage(MiniMessage.miniMessage()
-                        .deserialize(plugin.getConfigManager().getMessage("commands.no_console")));
+                sender.sendMessage(plugin.getConfigManager().getMessageComponent(sender, "commands.no_console"));
                 return true;
             }
         }
@@ -154,8 +153,7 @@ public class StarryForgeCommand implements CommandExecutor, TabCompleter {
                 return true;
             }
         } else {
-            sender.sendMessage(
-                    MiniMessage.miniMessage().deserialize(plugin.getConfigManager().getMessage("commands.no_console")));
+            sender.sendMessage(plugin.getConfigManager().getMessageComponent(sender, "commands.no_console"));
             return true;
         }
         return true;
@@ -250,8 +248,7 @@ public class StarryForgeCommand implements CommandExecutor, TabCompleter {
 
     private boolean handleGive(CommandSender sender, String[] args) {
         if (args.length < 2) {
-            sender.sendMessage(
-                    MiniMessage.miniMessage().deserialize(plugin.getConfigManager().getMessage("commands.usage_give")));
+            sender.sendMessage(plugin.getConfigManager().getMessageComponent(sender, "commands.usage_give"));
             return true;
         }
         if (sender instanceof Player player) {
@@ -314,34 +311,76 @@ public class StarryForgeCommand implements CommandExecutor, TabCompleter {
 
                 if (item != null) {
                     player.getInventory().addItem(item);
-                    String msg = plugin.getConfigManager().getMessage("commands.given").replace("{item}", id);
+                    String msg = plugin.getConfigManager().getMessage(player, "commands.given").replace("{item}", id);
                     player.sendMessage(MiniMessage.miniMessage().deserialize(msg));
                 } else {
-                    String msg = plugin.getConfigManager().getMessage("commands.unknown_item").replace("{id}", id);
+                    String msg = plugin.getConfigManager().getMessage(player, "commands.unknown_item")
+                            .replace("{id}", id);
                     player.sendMessage(MiniMessage.miniMessage().deserialize(msg));
                 }
                 return true;
             }
         } else {
-            sender.sendMessage(
-                    MiniMessage.miniMessage().deserialize(plugin.getConfigManager().getMessage("commands.no_console")));
+            sender.sendMessage(plugin.getConfigManager().getMessageComponent(sender, "commands.no_console"));
             return true;
         }
         return false;
     }
 
+    private boolean handleProfile(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("starryforge.admin"))
+            return false;
+        com.starryforge.features.core.PerfMonitor perf = plugin.getPerfMonitor();
+        String action = args.length > 1 ? args[1].toLowerCase() : "";
+        switch (action) {
+            case "start":
+                perf.startProfiling();
+                sender.sendMessage(MiniMessage.miniMessage()
+                        .deserialize("<green>Profiler started. Use /sf profile dump to write results.</green>"));
+                break;
+            case "stop":
+                perf.stop();
+                sender.sendMessage(MiniMessage.miniMessage().deserialize("<yellow>Profiler stopped.</yellow>"));
+                break;
+            case "dump":
+                List<String> lines = perf.summary();
+                if (lines.isEmpty()) {
+                    sender.sendMessage(MiniMessage.miniMessage().deserialize("<gray>No samples recorded.</gray>"));
+                    return true;
+                }
+                for (String line : lines) {
+                    sender.sendMessage(MiniMessage.miniMessage().deserialize("<gray>" + line + "</gray>"));
+                }
+                try {
+                    java.io.File file = perf.dump();
+                    sender.sendMessage(MiniMessage.miniMessage()
+                            .deserialize("<green>Profile written to " + file.getName() + "</green>"));
+                } catch (java.io.IOException e) {
+                    sender.sendMessage(MiniMessage.miniMessage()
+                            .deserialize("<red>Failed to write profile: " + e.getMessage() + "</red>"));
+                }
+                break;
+            default:
+                sender.sendMessage(MiniMessage.miniMessage().deserialize("<red>Usage: /sf profile <start|stop|dump></red>"));
+        }
+        return true;
+    }
+
     private boolean handleVisualizeNoise(CommandSender sender) {
         if (sender instanceof Player player && player.hasPermission("starryforge.debug")) {
-            player.sendMessage(MiniMessage.miniMessage()
-                    .deserialize(plugin.getConfigManager().getMessage("commands.visualize_noise_start")));
+            player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "commands.visualize_noise_start"));
             Location origin = player.getLocation();
             int radius = 5;
-            for (int x = -radius; x <= radius; x++) {
-                for (int y = -radius; y <= radius; y++) {
-                    for (int z = -radius; z <= radius; z++) {
-                        Location loc = origin.clone().add(x, y, z);
-                        double potency = plugin.getNoiseManager().getRawPotency(loc.getBlockX(), loc.getBlockY(),
-                                loc.getBlockZ());
+            int size = radius * 2 + 1;
+            float[] samples = new float[size * size * size];
+            plugin.getNoiseManager().sampleBlock(origin.getBlockX() - radius, origin.getBlockY() - radius,
+                    origin.getBlockZ() - radius, size, size, size, samples);
+            for (int y = 0; y < size; y++) {
+                for (int z = 0; z < size; z++) {
+                    for (int x = 0; x < size; x++) {
+                        Location loc = new Location(origin.getWorld(), origin.getBlockX() - radius + x,
+                                origin.getBlockY() - radius + y, origin.getBlockZ() - radius + z);
+                        double potency = samples[(y * size + z) * size + x];
 
                         org.bukkit.Particle.DustOptions dust;
                         if (potency > 0.8)
@@ -377,6 +416,7 @@ public class StarryForgeCommand implements CommandExecutor, TabCompleter {
                 completions.add("blueprint");
                 completions.add("list");
                 completions.add("reload");
+                completions.add("profile");
             }
             return completions.stream().filter(s -> s.startsWith(args[0].toLowerCase())).collect(Collectors.toList());
         } else if (args.length == 2) {
@@ -384,6 +424,10 @@ public class StarryForgeCommand implements CommandExecutor, TabCompleter {
                 return plugin.getItemManager().getItemNames().stream().filter(s -> s.startsWith(args[1].toUpperCase()))
                         .collect(Collectors.toList());
             }
+            if (args[0].equalsIgnoreCase("profile") && sender.hasPermission("starryforge.admin")) {
+                return List.of("start", "stop", "dump").stream().filter(s -> s.startsWith(args[1].toLowerCase()))
+                        .collect(Collectors.toList());
+            }
             if (args[0].equalsIgnoreCase("blueprint") && sender.hasPermission("starryforge.admin")) {
                 return plugin.getIronHeartManager().getBlueprintConfig().getAllBlueprints().stream()
                         .map(BlueprintConfig.Blueprint::id)
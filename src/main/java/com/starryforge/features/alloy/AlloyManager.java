@@ -35,7 +35,10 @@ import org.bukkit.NamespacedKey;
 
 import com.nexuscore.util.NexusKeys;
 import com.starryforge.utils.SerializationUtils;
+import com.starryforge.features.core.ItemIdResolver;
 import com.starryforge.features.core.PDCManager;
+import com.starryforge.features.core.PerfMonitor;
+import com.starryforge.utils.HudText;
 
 import java.util.HashMap;
 import java.util.List;
@@ -72,7 +75,8 @@ public class AlloyManager implements Listener {
     private int slotStart;
     private int slotOutput;
 
-    private final List<AlloyRecipe> recipes = new ArrayList<>();
+    // 配方索引，reload 时整体替换
+    private volatile AlloyRecipeIndex recipeIndex = AlloyRecipeIndex.EMPTY;
 
     private double physicsGravity;
     private double physicsBoostForce;
@@ -97,7 +101,14 @@ public class AlloyManager implements Listener {
     }
 
     public List<AlloyRecipe> getRecipes() {
-        return recipes;
+        return recipeIndex.recipes();
+    }
+
+    /**
+     * 按产物 ID (不区分大小写) 查找配方，没有时返回 null。
+     */
+    public AlloyRecipe getRecipeByResult(String resultId) {
+        return recipeIndex.byResult(resultId);
     }
 
     public void loadConfig() {
@@ -161,7 +172,7 @@ public class AlloyManager implements Listener {
                 }
             }
 
-            recipes.clear();
+            List<AlloyRecipe> recipes = new ArrayList<>();
             ConfigurationSection recipeConfig = plugin.getConfigManager().getRecipesConfig()
                     .getConfigurationSection("alloy_forge");
             if (recipeConfig != null) {
@@ -218,6 +229,7 @@ public class AlloyManager implements Listener {
                 }
                 LogUtil.debug("Loaded " + recipes.size() + " alloy recipes.");
             }
+            recipeIndex = AlloyRecipeIndex.build(recipes);
         }
     }
 
@@ -264,7 +276,7 @@ public class AlloyManager implements Listener {
         event.setCancelled(true);
 
         if (sessions.containsKey(player.getUniqueId())) {
-            player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("alloy.already_smelting")));
+            player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "alloy.already_smelting"));
             return;
         }
 
@@ -275,7 +287,7 @@ public class AlloyManager implements Listener {
     private void openGui(Player player, Block coreBlock, BlockFace facing) {
         AlloyForgeHolder holder = new AlloyForgeHolder(coreBlock, facing);
         Inventory inv = Bukkit.createInventory(holder, 27,
-                mm.deserialize(plugin.getConfigManager().getMessage("alloy.gui.title")));
+                plugin.getConfigManager().getMessageComponent("alloy.gui.title"));
 
         // 填充背景
         ItemStack filler = new ItemStack(Material.GRAY_STAINED_GLASS_PANE);
@@ -312,7 +324,7 @@ public class AlloyManager implements Listener {
         // 开始按钮
         ItemStack startBtn = new ItemStack(Material.LIME_STAINED_GLASS_PANE);
         ItemMeta startMeta = startBtn.getItemMeta();
-        startMeta.displayName(mm.deserialize(plugin.getConfigManager().getMessage("alloy.gui.start_btn_name")));
+        startMeta.displayName(plugin.getConfigManager().getMessageComponent("alloy.gui.start_btn_name"));
 
         List<String> lore = plugin.getConfigManager().getMessageList("alloy.gui.start_btn_lore");
         List<Component> loreComponents = lore.stream().map(mm::deserialize).toList();
@@ -409,7 +421,7 @@ public class AlloyManager implements Listener {
 
             // Check if output occupied
             if (inv.getItem(slotOutput) != null && inv.getItem(slotOutput).getType() != Material.AIR) {
-                player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("alloy.output_full")));
+                player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "alloy.output_full"));
                 return;
             }
 
@@ -428,7 +440,7 @@ public class AlloyManager implements Listener {
             AlloyRecipe matchedRecipe = matchRecipe(inputs);
 
             if (matchedRecipe == null) {
-                player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("alloy.missing_material")));
+                player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "alloy.missing_material"));
                 player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 0.5f);
                 return;
             }
@@ -445,12 +457,9 @@ public class AlloyManager implements Listener {
             // Copy matched inputs requirements to mutable map
             Map<String, Integer> remainingReqs = new HashMap<>(matchedRecipe.inputs());
 
-            for (int inputSlot : slotsInput) {
-                ItemStack item = inv.getItem(inputSlot);
-                if (item == null || item.getType() == Material.AIR)
-                    continue;
-
-                String matName = getItemId(item);
+            // 复用上面取出的物品实例 (ID 已在匹配时解析并缓存)
+            for (ItemStack item : inputs) {
+                String matName = ItemIdResolver.resolve(item);
                 if (remainingReqs.containsKey(matName)) {
                     int reqAmt = remainingReqs.get(matName);
                     if (reqAmt > 0) {
@@ -470,95 +479,23 @@ public class AlloyManager implements Listener {
         }
     }
 
-    private String getItemId(ItemStack item) {
-        if (item == null || item.getType() == Material.AIR)
-            return "AIR";
-
-        // 1. Check SF PDC
-        ItemMeta meta = item.getItemMeta();
-        if (meta != null) {
-            String sfId = meta.getPersistentDataContainer().get(com.starryforge.utils.Keys.ITEM_ID_KEY,
-                    org.bukkit.persistence.PersistentDataType.STRING);
-            if (sfId != null) {
-                plugin.getLogger().info("DEBUG: Item has SF ID: " + sfId);
-                // Special handling for legacy/Nexus items that might not have BIOMEGIFTS prefix
-                if (sfId.equals("LIGNITE") || sfId.equals("RICH_SLAG") || sfId.equals("GOLD_DUST") || sfId.equals("CHARGED_DUST") || sfId.equals("ICE_SHARD") || sfId.equals("TIDE_ESSENCE") || sfId.equals("COPPER_CRYSTAL") || sfId.equals("JADE_SHARD")) {
-                     return "BIOMEGIFTS:" + sfId;
-                }
-                return sfId.toUpperCase();
-            }
-
-            // 2. Check BiomeGifts PDC
-            org.bukkit.NamespacedKey bgKey = org.bukkit.NamespacedKey.fromString("biomegifts:id");
-            if (bgKey != null) {
-                String bgId = meta.getPersistentDataContainer().get(bgKey,
-                        org.bukkit.persistence.PersistentDataType.STRING);
-                if (bgId != null) {
-                    plugin.getLogger().info("DEBUG: Item has BG ID: " + bgId);
-                    // Check if ID already contains namespace to avoid double prefix
-                    if (bgId.toUpperCase().startsWith("BIOMEGIFTS:")) {
-                         return bgId.toUpperCase();
-                    }
-                    return "BIOMEGIFTS:" + bgId.toUpperCase();
-                }
-            }
-            
-            // 3. Check NexusCore Item ID (Standard)
-            org.bukkit.NamespacedKey nexusKey = org.bukkit.NamespacedKey.fromString("nexuscore:item_id");
-            if (nexusKey != null) {
-                String nexusId = meta.getPersistentDataContainer().get(nexusKey,
-                        org.bukkit.persistence.PersistentDataType.STRING);
-                if (nexusId != null) {
-                    plugin.getLogger().info("DEBUG: Item has NexusCore ID: " + nexusId);
-                    // BiomeGifts items in NexusCore usually don't have namespace in ID value
-                    // Try to guess namespace or return raw if it looks like one
-                    if (nexusId.contains(":")) {
-                        return nexusId.toUpperCase();
-                    } else {
-                        // Assuming BiomeGifts if it's a known material? Or just return raw?
-                        // For safety, let's try to map it if we can contextually guess, 
-                        // but for now let's append BIOMEGIFTS if it matches known BG items logic
-                        // Or better yet, just return BIOMEGIFTS:ID if it matches our recipe expectation
-                        return "BIOMEGIFTS:" + nexusId.toUpperCase();
-                    }
-                }
-            }
-        }
-
-        // 4. Fallback to Material Name (Minecraft Namespace)
-        plugin.getLogger().info("DEBUG: Item fallback to Material: " + item.getType().name());
-        return item.getType().name();
-    }
-
     private AlloyRecipe matchRecipe(List<ItemStack> inputs) {
         Map<String, Integer> inputCounts = new HashMap<>();
         for (ItemStack item : inputs) {
-            String id = getItemId(item);
+            String id = ItemIdResolver.resolve(item);
             inputCounts.merge(id, item.getAmount(), (a, b) -> a + b);
         }
         
-        plugin.getLogger().info("DEBUG: Current Input Counts: " + inputCounts);
+        LogUtil.debug("Current Input Counts: " + inputCounts);
 
-        for (AlloyRecipe recipe : recipes) {
-            boolean match = true;
-            for (Map.Entry<String, Integer> req : recipe.inputs().entrySet()) {
-                String reqKey = req.getKey().toUpperCase().replace("MINECRAFT:", "");
-                int has = inputCounts.getOrDefault(reqKey, 0);
-                
-                plugin.getLogger().info("DEBUG: Checking Recipe " + recipe.resultId() + ": Need " + reqKey + " x" + req.getValue() + ", Has x" + has);
-                
-                if (has < req.getValue()) {
-                    match = false;
-                    break;
-                }
-            }
-            if (match) {
-                plugin.getLogger().info("DEBUG: Matched Recipe: " + recipe.resultId());
-                return recipe;
-            }
+        // 配方输入键在加载时已规范化 (大写、去掉 MINECRAFT:)
+        AlloyRecipe recipe = recipeIndex.match(inputCounts);
+        if (recipe != null) {
+            LogUtil.debug("Matched Recipe: " + recipe.resultId());
+        } else {
+            LogUtil.debug("No recipe matched.");
         }
-        plugin.getLogger().info("DEBUG: No recipe matched.");
-        return null;
+        return recipe;
     }
 
     @EventHandler
@@ -644,13 +581,12 @@ public class AlloyManager implements Listener {
         if (block == null || item == null)
             return;
         try {
-            String data = SerializationUtils.itemToBase64(item);
             // Apply naming logic for hot items
             // But we actually store the CLEAN item, and apply lore/name when viewing?
             // Actually, we should store it as is.
             // We use PDC on the BlockState
             if (block.getState() instanceof org.bukkit.block.TileState state) {
-                state.getPersistentDataContainer().set(Keys.ALLOY_OUTPUT_ITEM, PersistentDataType.STRING, data);
+                SerializationUtils.writeItem(state.getPersistentDataContainer(), Keys.ALLOY_OUTPUT_ITEM, item);
                 state.getPersistentDataContainer().set(Keys.ALLOY_OUTPUT_TIME, PersistentDataType.LONG,
                         System.currentTimeMillis());
                 state.update();
@@ -665,10 +601,9 @@ public class AlloyManager implements Listener {
             return null;
         if (block.getState() instanceof org.bukkit.block.TileState state) {
             PersistentDataContainer pdc = state.getPersistentDataContainer();
-            if (pdc.has(Keys.ALLOY_OUTPUT_ITEM, PersistentDataType.STRING)) {
+            if (SerializationUtils.hasItem(pdc, Keys.ALLOY_OUTPUT_ITEM)) {
                 try {
-                    String data = pdc.get(Keys.ALLOY_OUTPUT_ITEM, PersistentDataType.STRING);
-                    ItemStack item = SerializationUtils.itemFromBase64(data);
+                    ItemStack item = SerializationUtils.readItem(pdc, Keys.ALLOY_OUTPUT_ITEM);
 
                     if (PDCManager.hasTemperature(item)) {
                         // Logic: Natural Cooling inside Forge is DISABLED by Phase 2 requirements.
@@ -705,11 +640,24 @@ public class AlloyManager implements Listener {
     private void dropInputs(Block block) {
         if (block.getState() instanceof org.bukkit.block.TileState state) {
             PersistentDataContainer pdc = state.getPersistentDataContainer();
+            byte[] inputs = pdc.get(Keys.ALLOY_INPUTS, PersistentDataType.BYTE_ARRAY);
+            if (inputs != null) {
+                try {
+                    for (ItemStack item : SerializationUtils.itemsFromBytes(inputs)) {
+                        if (item != null) {
+                            block.getWorld().dropItemNaturally(block.getLocation().add(0.5, 1, 0.5), item);
+                        }
+                    }
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+                pdc.remove(Keys.ALLOY_INPUTS);
+            }
             NamespacedKey[] keys = { Keys.ALLOY_INPUT_0, Keys.ALLOY_INPUT_1, Keys.ALLOY_INPUT_2, Keys.ALLOY_FLUX_ITEM };
             for (NamespacedKey key : keys) {
-                if (pdc.has(key, PersistentDataType.STRING)) {
+                if (SerializationUtils.hasItem(pdc, key)) {
                     try {
-                        ItemStack item = SerializationUtils.itemFromBase64(pdc.get(key, PersistentDataType.STRING));
+                        ItemStack item = SerializationUtils.readItem(pdc, key);
                         if (item != null) {
                             block.getWorld().dropItemNaturally(block.getLocation().add(0.5, 1, 0.5), item);
                         }
@@ -728,36 +676,33 @@ public class AlloyManager implements Listener {
             return;
         if (block.getState() instanceof org.bukkit.block.TileState state) {
             PersistentDataContainer pdc = state.getPersistentDataContainer();
-            // Inputs
+            // Inputs: 所有输入槽写入一个容器
+            ItemStack[] inputs = new ItemStack[slotsInput.size()];
+            boolean hasInput = false;
             for (int i = 0; i < slotsInput.size(); i++) {
-                int slot = slotsInput.get(i);
-                ItemStack item = inv.getItem(slot);
-                NamespacedKey key = switch (i) {
-                    case 0 -> Keys.ALLOY_INPUT_0;
-                    case 1 -> Keys.ALLOY_INPUT_1;
-                    case 2 -> Keys.ALLOY_INPUT_2;
-                    default -> null;
-                };
-                if (key != null) {
-                    if (item != null && item.getType() != Material.AIR) {
-                        try {
-                            pdc.set(key, PersistentDataType.STRING, SerializationUtils.itemToBase64(item));
-                        } catch (Exception e) {
-                            e.printStackTrace();
-                        }
-                    } else {
-                        pdc.remove(key);
-                    }
+                ItemStack item = inv.getItem(slotsInput.get(i));
+                if (item != null && item.getType() != Material.AIR) {
+                    inputs[i] = item;
+                    hasInput = true;
                 }
             }
-            // Flux
-            ItemStack flux = inv.getItem(slotFlux);
-            if (flux != null && flux.getType() != Material.AIR) {
+            if (hasInput) {
                 try {
-                    pdc.set(Keys.ALLOY_FLUX_ITEM, PersistentDataType.STRING, SerializationUtils.itemToBase64(flux));
+                    pdc.set(Keys.ALLOY_INPUTS, PersistentDataType.BYTE_ARRAY, SerializationUtils.itemsToBytes(inputs));
                 } catch (Exception e) {
                     e.printStackTrace();
                 }
+            } else {
+                pdc.remove(Keys.ALLOY_INPUTS);
+            }
+            // 移除旧格式的输入键
+            pdc.remove(Keys.ALLOY_INPUT_0);
+            pdc.remove(Keys.ALLOY_INPUT_1);
+            pdc.remove(Keys.ALLOY_INPUT_2);
+            // Flux
+            ItemStack flux = inv.getItem(slotFlux);
+            if (flux != null && flux.getType() != Material.AIR) {
+                SerializationUtils.writeItem(pdc, Keys.ALLOY_FLUX_ITEM, flux);
             } else {
                 pdc.remove(Keys.ALLOY_FLUX_ITEM);
             }
@@ -771,28 +716,39 @@ public class AlloyManager implements Listener {
         if (block.getState() instanceof org.bukkit.block.TileState state) {
             PersistentDataContainer pdc = state.getPersistentDataContainer();
             // Inputs
-            for (int i = 0; i < slotsInput.size(); i++) {
-                int slot = slotsInput.get(i);
-                NamespacedKey key = switch (i) {
-                    case 0 -> Keys.ALLOY_INPUT_0;
-                    case 1 -> Keys.ALLOY_INPUT_1;
-                    case 2 -> Keys.ALLOY_INPUT_2;
-                    default -> null;
-                };
-                if (key != null && pdc.has(key, PersistentDataType.STRING)) {
-                    try {
-                        inv.setItem(slot, SerializationUtils.itemFromBase64(pdc.get(key, PersistentDataType.STRING)));
-                    } catch (Exception e) {
-                        e.printStackTrace();
+            byte[] inputs = pdc.get(Keys.ALLOY_INPUTS, PersistentDataType.BYTE_ARRAY);
+            if (inputs != null) {
+                try {
+                    ItemStack[] items = SerializationUtils.itemsFromBytes(inputs);
+                    for (int i = 0; i < slotsInput.size() && i < items.length; i++) {
+                        inv.setItem(slotsInput.get(i), items[i]);
+                    }
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            } else {
+                // 旧格式：每槽一个 Base64 字符串，下次保存时转换
+                for (int i = 0; i < slotsInput.size(); i++) {
+                    int slot = slotsInput.get(i);
+                    NamespacedKey key = switch (i) {
+                        case 0 -> Keys.ALLOY_INPUT_0;
+                        case 1 -> Keys.ALLOY_INPUT_1;
+                        case 2 -> Keys.ALLOY_INPUT_2;
+                        default -> null;
+                    };
+                    if (key != null && SerializationUtils.hasItem(pdc, key)) {
+                        try {
+                            inv.setItem(slot, SerializationUtils.readItem(pdc, key));
+                        } catch (Exception e) {
+                            e.printStackTrace();
+                        }
                     }
                 }
             }
             // Flux
-            if (pdc.has(Keys.ALLOY_FLUX_ITEM, PersistentDataType.STRING)) {
+            if (SerializationUtils.hasItem(pdc, Keys.ALLOY_FLUX_ITEM)) {
                 try {
-                    inv.setItem(slotFlux,
-                            SerializationUtils
-                                    .itemFromBase64(pdc.get(Keys.ALLOY_FLUX_ITEM, PersistentDataType.STRING)));
+                    inv.setItem(slotFlux, SerializationUtils.readItem(pdc, Keys.ALLOY_FLUX_ITEM));
                 } catch (Exception e) {
                     e.printStackTrace();
                 }
@@ -821,9 +777,9 @@ public class AlloyManager implements Listener {
         // Round to nearest integer
         int rawStars = count > 0 ? Math.round((float) totalStars / count) : 1;
 
-        player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("alloy.start")));
-        player.sendMessage(
-                mm.deserialize(plugin.getConfigManager().getMessage("alloy.flux_used").replace("{flux}", flux.name())));
+        player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "alloy.start"));
+        player.sendMessage(mm.deserialize(
+                plugin.getConfigManager().getMessage(player, "alloy.flux_used").replace("{flux}", flux.name())));
 
         SmeltingSession session = new SmeltingSession(player, furnace, facing, flux, rawStars, recipe);
         sessions.put(player.getUniqueId(), session);
@@ -922,7 +878,7 @@ public class AlloyManager implements Listener {
                 player.playSound(furnace.getLocation(), Sound.BLOCK_ANVIL_PLACE, 1.0f, 1.5f);
                 spawnStructureParticles(Particle.WAX_ON, Color.YELLOW);
 
-                String msg = plugin.getConfigManager().getMessage("alloy.hit_success")
+                String msg = plugin.getConfigManager().getMessage(player, "alloy.hit_success")
                         .replace("{strikes}", String.valueOf(strikes))
                         .replace("{max_strikes}", String.valueOf(recipe.maxStrikes()));
                 player.sendMessage(mm.deserialize(msg));
@@ -930,7 +886,7 @@ public class AlloyManager implements Listener {
                 // 失败
                 qualityAccumulator -= gameQualityPenalty; // 惩罚
                 player.playSound(furnace.getLocation(), Sound.BLOCK_ANVIL_LAND, 1.0f, 0.5f);
-                player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("alloy.hit_fail")));
+                player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "alloy.hit_fail"));
             }
 
             if (strikes >= recipe.maxStrikes()) {
@@ -940,6 +896,16 @@ public class AlloyManager implements Listener {
 
         @Override
         public void run() {
+            PerfMonitor perf = plugin.getPerfMonitor();
+            perf.begin(PerfMonitor.Section.SMELTING);
+            try {
+                tick();
+            } finally {
+                perf.end(PerfMonitor.Section.SMELTING);
+            }
+        }
+
+        private void tick() {
             if (!player.isOnline() || multiBlockManager.checkStructure(furnace, "alloy_blast_furnace") == null) {
                 this.cancel();
                 sessions.remove(player.getUniqueId());
@@ -1045,7 +1011,7 @@ public class AlloyManager implements Listener {
                 bar.append(" <red><b>WARNING!</b></red>");
             }
 
-            player.sendActionBar(mm.deserialize(bar.toString()));
+            player.sendActionBar(HudText.parse(bar.toString()));
         }
 
         private void spawnStructureParticles(Particle particle, Color color) {
@@ -1083,7 +1049,8 @@ public class AlloyManager implements Listener {
             clearOutputFromBlock(furnace);
             if (furnace.getState() instanceof org.bukkit.block.TileState state) {
                 PersistentDataContainer pdc = state.getPersistentDataContainer();
-                NamespacedKey[] keys = { Keys.ALLOY_INPUT_0, Keys.ALLOY_INPUT_1, Keys.ALLOY_INPUT_2, Keys.ALLOY_FLUX_ITEM };
+                NamespacedKey[] keys = { Keys.ALLOY_INPUTS, Keys.ALLOY_INPUT_0, Keys.ALLOY_INPUT_1, Keys.ALLOY_INPUT_2,
+                        Keys.ALLOY_FLUX_ITEM };
                 for (NamespacedKey key : keys) {
                     pdc.remove(key);
                 }
@@ -1095,7 +1062,7 @@ public class AlloyManager implements Listener {
                 dropLocation.getWorld().dropItemNaturally(dropLocation, slagItem);
             }
 
-            player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("alloy.meltdown")));
+            player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "alloy.meltdown"));
         }
 
         private ItemStack createMineralSlag() {
@@ -1131,11 +1098,11 @@ public class AlloyManager implements Listener {
                 finalStars = (int) Math.floor(finalRating);
                 if (finalStars < 1) finalStars = 1;
                 
-                player.sendMessage(
-                    mm.deserialize(plugin.getConfigManager().getMessage("alloy.complete") + "⭐".repeat(finalStars)));
+                player.sendMessage(mm.deserialize(
+                    plugin.getConfigManager().getMessage(player, "alloy.complete") + "⭐".repeat(finalStars)));
             } else {
                 // No quality system for this recipe
-                player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("alloy.complete")));
+                player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "alloy.complete"));
             }
 
             ItemStack result = null;
@@ -1179,7 +1146,7 @@ public class AlloyManager implements Listener {
 
             // Set Temperature from recipe (not game temperature)
             double outputTemp = recipe.outputTemperature();
-            PDCManager.setTemperature(result, outputTemp);
+            plugin.getThermodynamicsManager().setTemperature(result, outputTemp);
             // Also store max temperature for re-heating
             ItemMeta resultMeta = result.getItemMeta();
             resultMeta.getPersistentDataContainer().set(Keys.MAX_TEMPERATURE_KEY, PersistentDataType.DOUBLE, outputTemp);
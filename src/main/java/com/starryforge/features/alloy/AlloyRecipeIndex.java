@@ -0,0 +1,126 @@
+package com.starryforge.features.alloy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 合金配方索引，loadConfig 时构建，之后不可变，reload 时整体替换。
+ * <p>
+ * 配方按输入物品 ID 集合的规范键 (排序后用 '|' 连接) 分组。匹配时枚举熔炉中物品 ID 集合的所有子集
+ * (输入槽只有几个，子集数很少) 查表，再检查数量，结果与按配置顺序线性扫描完全相同：
+ * 多个配方满足时返回配置中靠前的那个。
+ * 同时按产物 ID 建立反向索引，供重新加热和配方展示使用。
+ */
+final class AlloyRecipeIndex {
+
+    static final AlloyRecipeIndex EMPTY = build(List.of());
+
+    // 超过该数量的不同输入时退回线性扫描 (子集数 2^n)
+    private static final int MAX_SUBSET_IDS = 10;
+
+    private final List<AlloyManager.AlloyRecipe> recipes;
+    // 规范键 -> 配方在 recipes 中的下标 (升序)
+    private final Map<String, int[]> bySignature;
+    // 产物 ID (大写) -> 配方
+    private final Map<String, AlloyManager.AlloyRecipe> byResult;
+
+    private AlloyRecipeIndex(List<AlloyManager.AlloyRecipe> recipes, Map<String, int[]> bySignature,
+            Map<String, AlloyManager.AlloyRecipe> byResult) {
+        this.recipes = recipes;
+        this.bySignature = bySignature;
+        this.byResult = byResult;
+    }
+
+    static AlloyRecipeIndex build(List<AlloyManager.AlloyRecipe> recipes) {
+        List<AlloyManager.AlloyRecipe> ordered = List.copyOf(recipes);
+        Map<String, List<Integer>> groups = new HashMap<>();
+        Map<String, AlloyManager.AlloyRecipe> byResult = new HashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            AlloyManager.AlloyRecipe recipe = ordered.get(i);
+            // 数量为 0 的输入不参与匹配
+            String[] ids = recipe.inputs().entrySet().stream()
+                    .filter(e -> e.getValue() > 0)
+                    .map(Map.Entry::getKey)
+                    .toArray(String[]::new);
+            groups.computeIfAbsent(signature(ids), k -> new ArrayList<>()).add(i);
+            byResult.putIfAbsent(recipe.resultId().toUpperCase(Locale.ROOT), recipe);
+        }
+        Map<String, int[]> bySignature = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> e : groups.entrySet()) {
+            bySignature.put(e.getKey(), e.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        return new AlloyRecipeIndex(ordered, bySignature, byResult);
+    }
+
+    List<AlloyManager.AlloyRecipe> recipes() {
+        return recipes;
+    }
+
+    AlloyManager.AlloyRecipe byResult(String resultId) {
+        return resultId == null ? null : byResult.get(resultId.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * 找到输入数量满足的第一个配方 (按配置顺序)。
+     *
+     * @param counts 规范化物品 ID -> 总数量
+     */
+    AlloyManager.AlloyRecipe match(Map<String, Integer> counts) {
+        if (counts.isEmpty() || recipes.isEmpty())
+            return null;
+
+        String[] ids = counts.keySet().toArray(new String[0]);
+        if (ids.length > MAX_SUBSET_IDS) {
+            for (AlloyManager.AlloyRecipe recipe : recipes) {
+                if (satisfies(recipe, counts))
+                    return recipe;
+            }
+            return null;
+        }
+        Arrays.sort(ids);
+
+        int best = Integer.MAX_VALUE;
+        int subsets = 1 << ids.length;
+        StringBuilder key = new StringBuilder(64);
+        // mask 0 对应没有有效输入要求的配方
+        for (int mask = 0; mask < subsets; mask++) {
+            key.setLength(0);
+            for (int b = 0; b < ids.length; b++) {
+                if ((mask & (1 << b)) != 0) {
+                    if (key.length() > 0)
+                        key.append('|');
+                    key.append(ids[b]);
+                }
+            }
+            int[] candidates = bySignature.get(key.toString());
+            if (candidates == null)
+                continue;
+            for (int index : candidates) {
+                if (index >= best)
+                    break;
+                if (satisfies(recipes.get(index), counts)) {
+                    best = index;
+                    break;
+                }
+            }
+        }
+        return best == Integer.MAX_VALUE ? null : recipes.get(best);
+    }
+
+    private static boolean satisfies(AlloyManager.AlloyRecipe recipe, Map<String, Integer> counts) {
+        for (Map.Entry<String, Integer> req : recipe.inputs().entrySet()) {
+            if (counts.getOrDefault(req.getKey(), 0) < req.getValue())
+                return false;
+        }
+        return true;
+    }
+
+    private static String signature(String[] ids) {
+        Arrays.sort(ids);
+        return String.join("|", ids);
+    }
+}
@@ -1,7 +1,6 @@
 package com.starryforge.features.alloy;
 
 import com.starryforge.StarryForge;
-import com.starryforge.features.core.PDCManager;
 import com.starryforge.utils.Keys;
 import org.bukkit.Material;
 import org.bukkit.event.EventHandler;
@@ -73,7 +72,7 @@ public class ReheatListener implements Listener {
         // Important: Only output 1 item per smelt (vanilla behavior)
         ItemStack result = source.clone();
         result.setAmount(1);
-        PDCManager.setTemperature(result, maxTemp);
+        plugin.getThermodynamicsManager().setTemperature(result, maxTemp);
 
         // Also ensure MAX_TEMPERATURE_KEY is set for future reheats
         ItemMeta resultMeta = result.getItemMeta();
@@ -91,11 +90,7 @@ public class ReheatListener implements Listener {
      */
     private Double getMaxTempForItem(String itemId) {
         // Check alloy forge recipes for output temperature
-        for (AlloyManager.AlloyRecipe recipe : plugin.getAlloyManager().getRecipes()) {
-            if (recipe.resultId().equalsIgnoreCase(itemId)) {
-                return recipe.outputTemperature();
-            }
-        }
-        return null;
+        AlloyManager.AlloyRecipe recipe = plugin.getAlloyManager().getRecipeByResult(itemId);
+        return recipe != null ? recipe.outputTemperature() : null;
     }
 }
@@ -1,25 +1,77 @@
 package com.starryforge.features.alloy;
 
 import com.starryforge.StarryForge;
+import com.starryforge.features.core.ConfigSnapshot;
 import com.starryforge.features.core.PDCManager;
+import com.starryforge.features.core.PerfMonitor;
+import com.starryforge.utils.Keys;
+import io.papermc.paper.persistence.PersistentDataContainerView;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.ItemDespawnEvent;
+import org.bukkit.event.entity.ItemSpawnEvent;
+import org.bukkit.event.inventory.FurnaceExtractEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryMoveItemEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.inventory.InventoryPickupItemEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
-public class ThermodynamicsManager {
+/**
+ * 物品温度管理。
+ * <p>
+ * 只有登记在热物品注册表中的掉落物实体和玩家参与每秒冷却；
+ * 物品在生成、掉落、拾取、点击、出炉等事件中登记，冷却到环境温度后移除。
+ * <p>
+ * 开启 thermodynamics.analytic_cooling 后，物品只保存 温度 + 时间戳 (游戏刻)，
+ * 当前温度在读取时按牛顿冷却闭式解 ambient + diff * (1 - rate)^n 计算，
+ * 不再每秒改写物品；Lore 仅在玩家查看或按 lore_refresh_seconds 间隔刷新。
+ * 时间戳按逐秒模式对齐：读数等于最近一次冷却任务写入后的温度。
+ * 物品离开玩家背包或地面 (放入箱子、熔炉、锻炉，或被漏斗吸入) 时写回当前温度并移除时间戳，
+ * 与逐秒模式下存放的物品不再冷却一致；再次进入冷却流程时才重新打上时间戳。
+ */
+public class ThermodynamicsManager implements Listener {
 
     private final StarryForge plugin;
     private final MiniMessage mm = MiniMessage.miniMessage();
 
+    // 热物品注册表：地面上的高温掉落物 (实体 UUID -> 实体)
+    private final Map<UUID, Item> hotItems = new HashMap<>();
+    // 背包中持有高温物品的玩家
+    private final Set<UUID> hotHolders = new HashSet<>();
+    // 解析模式下，下一次扫描需要立即刷新 Lore 的玩家
+    private final Set<UUID> loreRefreshRequests = new HashSet<>();
+    private long taskRuns = 0;
+
     public ThermodynamicsManager(StarryForge plugin) {
         this.plugin = plugin;
         startTemperatureTask();
@@ -29,66 +81,473 @@ public class ThermodynamicsManager {
         new BukkitRunnable() {
             @Override
             public void run() {
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    processPlayerInventory(player);
+                PerfMonitor perf = plugin.getPerfMonitor();
+                perf.begin(PerfMonitor.Section.THERMODYNAMICS);
+                try {
+                    tickTemperatures();
+                } finally {
+                    perf.end(PerfMonitor.Section.THERMODYNAMICS);
                 }
-                // Also process ground items in loaded chunks
-                processGroundItems();
             }
         }.runTaskTimer(plugin, 20L, 20L); // 每秒运行一次
     }
 
+    /**
+     * 每秒一次：更新持有高温物品的玩家背包和地面物品
+     */
+    private void tickTemperatures() {
+        taskRuns++;
+        boolean analytic = isAnalytic();
+        if (!hotHolders.isEmpty()) {
+            int loreInterval = plugin.getConfigManager().getSettings().thermo().loreRefreshSeconds();
+            boolean loreDue = taskRuns % loreInterval == 0;
+            for (UUID playerId : new ArrayList<>(hotHolders)) {
+                Player player = Bukkit.getPlayer(playerId);
+                boolean stillHot = player != null && (analytic
+                        ? processPlayerInventoryAnalytic(player, loreDue || loreRefreshRequests.contains(playerId))
+                        : processPlayerInventory(player));
+                if (!stillHot) {
+                    hotHolders.remove(playerId);
+                }
+            }
+            loreRefreshRequests.clear();
+        }
+        // Also process tracked ground items
+        if (!hotItems.isEmpty()) {
+            if (analytic) {
+                processGroundItemsAnalytic();
+            } else {
+                processGroundItems();
+            }
+        }
+    }
+
+    // ===== 热物品注册表 =====
+
+    /**
+     * 判断物品是否高于环境温度，需要参与冷却。
+     */
+    public boolean isHot(ItemStack item) {
+        if (!PDCManager.hasTemperature(item))
+            return false;
+        double ambientTemp = plugin.getConfigManager().getSettings().thermo().ambientTemp();
+        return getTemperature(item) > ambientTemp;
+    }
+
+    // ===== 温度读写 (兼容两种冷却模式) =====
+
+    public boolean isAnalytic() {
+        return plugin.getConfigManager().getSettings().thermo().analyticCooling();
+    }
+
+    /**
+     * 读取物品当前温度。解析模式下按时间戳计算，不修改物品。
+     */
+    public double getTemperature(ItemStack item) {
+        if (item == null || !item.hasItemMeta())
+            return 0.0;
+        PersistentDataContainerView pdc = item.getPersistentDataContainer();
+        double stored = pdc.getOrDefault(Keys.TEMPERATURE_KEY, PersistentDataType.DOUBLE, 0.0);
+        Long anchor = pdc.get(Keys.LAST_UPDATE_TIME, PersistentDataType.LONG);
+        if (anchor == null || !isAnalytic())
+            return stored;
+        return computeTemperature(stored, anchor, currentTime(), getCoolingRate());
+    }
+
+    /**
+     * 设置物品温度。新温度不带时间戳，直到物品进入冷却流程 (被玩家持有或掉落) 才开始计时。
+     */
+    public void setTemperature(ItemStack item, double temp) {
+        PDCManager.setTemperature(item, temp);
+        if (item != null && item.hasItemMeta()) {
+            ItemMeta meta = item.getItemMeta();
+            if (meta.getPersistentDataContainer().has(Keys.LAST_UPDATE_TIME, PersistentDataType.LONG)) {
+                meta.getPersistentDataContainer().remove(Keys.LAST_UPDATE_TIME);
+                item.setItemMeta(meta);
+            }
+        }
+    }
+
+    /**
+     * 解析模式下停止物品的冷却计时：写回当前温度并移除时间戳。
+     *
+     * @return 物品是否被修改
+     */
+    public boolean freeze(ItemStack item) {
+        if (item == null || !item.hasItemMeta())
+            return false;
+        ItemMeta meta = item.getItemMeta();
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+        Long anchor = pdc.get(Keys.LAST_UPDATE_TIME, PersistentDataType.LONG);
+        if (anchor == null)
+            return false;
+        double stored = pdc.getOrDefault(Keys.TEMPERATURE_KEY, PersistentDataType.DOUBLE, 0.0);
+        double temp = computeTemperature(stored, anchor, currentTime(), getCoolingRate());
+        pdc.set(Keys.TEMPERATURE_KEY, PersistentDataType.DOUBLE, temp);
+        pdc.remove(Keys.LAST_UPDATE_TIME);
+        item.setItemMeta(meta);
+        updateItemLore(item, temp);
+        return true;
+    }
+
+    /**
+     * 牛顿冷却的闭式解，与逐秒迭代 (含 0.1 度吸附) 的结果一致。
+     */
+    double computeTemperature(double stored, long anchor, long now, double coolingRate) {
+        double ambientTemp = plugin.getConfigManager().getSettings().thermo().ambientTemp();
+        double diff = stored - ambientTemp;
+        if (diff <= 0)
+            return stored;
+        long seconds = Math.max(0, (now - anchor) / 20);
+        double temp = ambientTemp + diff * Math.pow(1.0 - coolingRate, seconds);
+        if (temp < ambientTemp + 0.1) {
+            temp = ambientTemp;
+        }
+        return temp;
+    }
+
+    private double getCoolingRate() {
+        return plugin.getConfigManager().getSettings().thermo().coolingRate();
+    }
+
+    /**
+     * 冷却时钟：主世界的游戏刻，不受 /time set 影响。
+     */
+    private long currentTime() {
+        return Bukkit.getWorlds().get(0).getGameTime();
+    }
+
+    /**
+     * 登记一个掉落物实体 (若其物品为高温)。
+     */
+    public void track(Item itemEntity) {
+        if (isHot(itemEntity.getItemStack())) {
+            hotItems.put(itemEntity.getUniqueId(), itemEntity);
+        }
+    }
+
+    /**
+     * 登记一个玩家，下一次冷却时扫描其背包；没有高温物品时会自动移除。
+     */
+    public void trackHolder(Player player) {
+        hotHolders.add(player.getUniqueId());
+        loreRefreshRequests.add(player.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemSpawn(ItemSpawnEvent event) {
+        track(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerDrop(PlayerDropItemEvent event) {
+        track(event.getItemDrop());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (hotItems.remove(event.getItem().getUniqueId()) != null && event.getEntity() instanceof Player player) {
+            trackHolder(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHopperPickup(InventoryPickupItemEvent event) {
+        // 被漏斗等容器吸入：停止计时
+        Item itemEntity = event.getItem();
+        hotItems.remove(itemEntity.getUniqueId());
+        ItemStack item = itemEntity.getItemStack();
+        if (freeze(item)) {
+            itemEntity.setItemStack(item);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryMove(InventoryMoveItemEvent event) {
+        ItemStack item = event.getItem();
+        if (freeze(item)) {
+            event.setItem(item);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        // 放入箱子、熔炉或锻炉界面的物品在关闭界面时停止计时；玩家自身背包仍由冷却任务处理
+        Inventory top = event.getView().getTopInventory();
+        if (top.getType() == InventoryType.CRAFTING || top.getType() == InventoryType.PLAYER)
+            return;
+        ItemStack[] contents = top.getContents();
+        for (int i = 0; i < contents.length; i++) {
+            if (freeze(contents[i])) {
+                top.setItem(i, contents[i]);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDespawn(ItemDespawnEvent event) {
+        hotItems.remove(event.getEntity().getUniqueId());
+    }
+
+    @EventHandler
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            if (entity instanceof Item itemEntity) {
+                track(itemEntity);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (!(event.getWhoClicked() instanceof Player player) || hotHolders.contains(player.getUniqueId()))
+            return;
+        if (isHot(event.getCurrentItem()) || isHot(event.getCursor())) {
+            trackHolder(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        // 打开任意界面时玩家背包可见，解析模式下刷新其 Lore
+        UUID playerId = event.getPlayer().getUniqueId();
+        if (hotHolders.contains(playerId)) {
+            loreRefreshRequests.add(playerId);
+        }
+    }
+
+    @EventHandler
+    public void onFurnaceExtract(FurnaceExtractEvent event) {
+        trackHolder(event.getPlayer());
+    }
+
+    @EventHandler
+    public void onJoin(PlayerJoinEvent event) {
+        // 背包中可能有离线前未冷却的物品，扫描一次即可
+        trackHolder(event.getPlayer());
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        hotHolders.remove(event.getPlayer().getUniqueId());
+        loreRefreshRequests.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * 解析模式下的掉落物处理：仅水中物品逐秒冷却（改写温度并重设时间戳），
+     * 其余物品只在冷却到环境温度时写入一次。
+     */
+    private void processGroundItemsAnalytic() {
+        ConfigSnapshot.ThermoSettings thermo = plugin.getConfigManager().getSettings().thermo();
+        double ambientTemp = thermo.ambientTemp();
+        double coolingRate = thermo.coolingRate();
+        double waterCoolingRate = thermo.waterCoolingRate();
+        long now = currentTime();
+
+        java.util.Iterator<Item> it = hotItems.values().iterator();
+        while (it.hasNext()) {
+            Item itemEntity = it.next();
+            if (!itemEntity.isValid()) {
+                it.remove();
+                continue;
+            }
+            ItemStack item = itemEntity.getItemStack();
+            ItemMeta meta = item.getItemMeta();
+            if (meta == null) {
+                it.remove();
+                continue;
+            }
+            PersistentDataContainer pdc = meta.getPersistentDataContainer();
+            double stored = pdc.getOrDefault(Keys.TEMPERATURE_KEY, PersistentDataType.DOUBLE, 0.0);
+            Long anchor = pdc.get(Keys.LAST_UPDATE_TIME, PersistentDataType.LONG);
+            boolean inWater = itemEntity.isInWater();
+            double temp;
+            if (anchor == null) {
+                temp = inWater ? stored : computeTemperature(stored, now - 20, now, coolingRate);
+            } else if (inWater) {
+                // 本秒只做水冷：空气冷却只算到上一秒为止 (上一秒已写入时为 0 秒)，与逐秒迭代一致
+                temp = computeTemperature(stored, anchor, now - 20, coolingRate);
+            } else {
+                temp = computeTemperature(stored, anchor, now, coolingRate);
+            }
+
+            if (inWater) {
+                if (temp > 100.0) {
+                    itemEntity.getWorld().spawnParticle(org.bukkit.Particle.CAMPFIRE_COSY_SMOKE,
+                            itemEntity.getLocation().add(0, 0.5, 0), 2, 0, 0, 0, 0.05);
+                    itemEntity.getWorld().playSound(itemEntity.getLocation(),
+                            org.bukkit.Sound.ENTITY_GENERIC_EXTINGUISH_FIRE, 0.5f, 1.0f);
+                }
+                temp = ambientTemp + (temp - ambientTemp) * (1.0 - waterCoolingRate);
+                if (temp < ambientTemp + 0.1) {
+                    temp = ambientTemp;
+                }
+            } else if (anchor != null && temp > ambientTemp) {
+                continue; // 无需写入
+            }
+
+            // 写回：水冷、首次打时间戳或冷却完成
+            if (temp > ambientTemp) {
+                if (inWater) {
+                    pdc.set(Keys.TEMPERATURE_KEY, PersistentDataType.DOUBLE, temp);
+                    pdc.set(Keys.LAST_UPDATE_TIME, PersistentDataType.LONG, now);
+                } else {
+                    // 首次打时间戳：保存原温度并把时间戳前移一秒，使读数包含本秒的空气冷却
+                    pdc.set(Keys.TEMPERATURE_KEY, PersistentDataType.DOUBLE, stored);
+                    pdc.set(Keys.LAST_UPDATE_TIME, PersistentDataType.LONG, now - 20);
+                }
+            } else {
+                pdc.set(Keys.TEMPERATURE_KEY, PersistentDataType.DOUBLE, temp);
+                pdc.remove(Keys.LAST_UPDATE_TIME);
+            }
+            item.setItemMeta(meta);
+            if (inWater || temp <= ambientTemp) {
+                updateItemLore(item, temp);
+            }
+            itemEntity.setItemStack(item);
+
+            if (temp <= ambientTemp) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * 解析模式下的背包处理：读取计算温度用于灼烧判定，只在打时间戳、冷却完成或需要刷新 Lore 时写入物品。
+     *
+     * @return 背包中是否仍有高于环境温度的物品
+     */
+    private boolean processPlayerInventoryAnalytic(Player player, boolean refreshLore) {
+        double maxTemp = 0;
+        boolean burning = false;
+        boolean stillHot = false;
+
+        ConfigSnapshot.ThermoSettings thermo = plugin.getConfigManager().getSettings().thermo();
+        double ambientTemp = thermo.ambientTemp();
+        double coolingRate = thermo.coolingRate();
+        double burnThreshold = thermo.burnThreshold();
+        double damageCap = thermo.damageCap();
+        long now = currentTime();
+
+        for (ItemStack item : player.getInventory().getContents()) {
+            if (item == null || item.getType().isAir() || !item.hasItemMeta())
+                continue;
+
+            ItemMeta meta = item.getItemMeta();
+            PersistentDataContainer pdc = meta.getPersistentDataContainer();
+            Double stored = pdc.get(Keys.TEMPERATURE_KEY, PersistentDataType.DOUBLE);
+            if (stored == null || stored <= ambientTemp)
+                continue;
+
+            Long anchor = pdc.get(Keys.LAST_UPDATE_TIME, PersistentDataType.LONG);
+            if (anchor == null) {
+                // 首次进入冷却流程，打上时间戳；前移一秒，使读数与逐秒模式本次写入后的温度一致
+                anchor = now - 20;
+                pdc.set(Keys.LAST_UPDATE_TIME, PersistentDataType.LONG, anchor);
+                item.setItemMeta(meta);
+            }
+
+            // 灼烧判定使用本秒冷却前的温度，与逐秒模式一致
+            double burnTemp = computeTemperature(stored, anchor, now - 20, coolingRate);
+            double temp = computeTemperature(stored, anchor, now, coolingRate);
+            if (temp <= ambientTemp) {
+                // 冷却完成：固化为环境温度并移除 Lore
+                pdc.set(Keys.TEMPERATURE_KEY, PersistentDataType.DOUBLE, ambientTemp);
+                pdc.remove(Keys.LAST_UPDATE_TIME);
+                item.setItemMeta(meta);
+                updateItemLore(item, ambientTemp);
+            } else {
+                stillHot = true;
+                if (refreshLore) {
+                    updateItemLore(item, temp);
+                }
+            }
+
+            // 玩家灼烧检查
+            if (burnTemp > burnThreshold) {
+                burning = true;
+                if (burnTemp > maxTemp)
+                    maxTemp = burnTemp;
+            }
+        }
+
+        if (burning) {
+            double damage = 1.0 + (maxTemp - burnThreshold) / 100.0;
+            player.damage(Math.min(damage, damageCap));
+            player.sendActionBar(plugin.getConfigManager().getMessageComponent(player, "thermodynamics.burn_warning"));
+        }
+        return stillHot;
+    }
+
     private void processGroundItems() {
-        double ambientTemp = plugin.getConfigManager().getDouble("thermodynamics.ambient_temp", 20.0);
-        double coolingRate = plugin.getConfigManager().getDouble("thermodynamics.cooling_rate", 0.05);
-        double waterCoolingRate = plugin.getConfigManager().getDouble("thermodynamics.water_cooling_rate", 0.5);
-
-        for (org.bukkit.World world : Bukkit.getWorlds()) {
-            for (org.bukkit.entity.Entity entity : world.getEntities()) {
-                if (entity instanceof org.bukkit.entity.Item itemEntity) {
-                    ItemStack item = itemEntity.getItemStack();
-                    if (PDCManager.hasTemperature(item)) {
-                        double temp = PDCManager.getTemperature(item);
-                        if (temp > ambientTemp) {
-                            double effectiveRate = coolingRate;
-                            // Check if in water
-                            if (itemEntity.isInWater()) {
-                                effectiveRate = waterCoolingRate;
-                                if (temp > 100.0) {
-                                    world.spawnParticle(org.bukkit.Particle.CAMPFIRE_COSY_SMOKE,
-                                            itemEntity.getLocation().add(0, 0.5, 0), 2, 0, 0, 0, 0.05);
-                                    // Play sound occasionally to avoid spam? Task runs every 1s (20 ticks).
-                                    // Sound is fine every second.
-                                    world.playSound(itemEntity.getLocation(),
-                                            org.bukkit.Sound.ENTITY_GENERIC_EXTINGUISH_FIRE, 0.5f, 1.0f);
-                                }
-                            }
-
-                            double diff = temp - ambientTemp;
-                            double newTemp = ambientTemp + diff * (1.0 - effectiveRate);
-
-                            if (newTemp < ambientTemp + 0.1) {
-                                newTemp = ambientTemp;
-                            }
-
-                            PDCManager.setTemperature(item, newTemp);
-                            updateItemLore(item, newTemp);
-                            itemEntity.setItemStack(item);
-                        }
-                    }
+        ConfigSnapshot.ThermoSettings thermo = plugin.getConfigManager().getSettings().thermo();
+        double ambientTemp = thermo.ambientTemp();
+        double coolingRate = thermo.coolingRate();
+        double waterCoolingRate = thermo.waterCoolingRate();
+
+        java.util.Iterator<Item> it = hotItems.values().iterator();
+        while (it.hasNext()) {
+            Item itemEntity = it.next();
+            // 已被合并、拾取或随区块卸载的实体不再跟踪 (区块重新加载时会再次登记)
+            if (!itemEntity.isValid()) {
+                it.remove();
+                continue;
+            }
+            org.bukkit.World world = itemEntity.getWorld();
+            ItemStack item = itemEntity.getItemStack();
+            double temp = PDCManager.getTemperature(item);
+            if (temp <= ambientTemp) {
+                it.remove();
+                continue;
+            }
+
+            double effectiveRate = coolingRate;
+            // Check if in water
+            if (itemEntity.isInWater()) {
+                effectiveRate = waterCoolingRate;
+                if (temp > 100.0) {
+                    world.spawnParticle(org.bukkit.Particle.CAMPFIRE_COSY_SMOKE,
+                            itemEntity.getLocation().add(0, 0.5, 0), 2, 0, 0, 0, 0.05);
+                    // Play sound occasionally to avoid spam? Task runs every 1s (20 ticks).
+                    // Sound is fine every second.
+                    world.playSound(itemEntity.getLocation(),
+                            org.bukkit.Sound.ENTITY_GENERIC_EXTINGUISH_FIRE, 0.5f, 1.0f);
                 }
             }
+
+            double diff = temp - ambientTemp;
+            double newTemp = ambientTemp + diff * (1.0 - effectiveRate);
+
+            if (newTemp < ambientTemp + 0.1) {
+                newTemp = ambientTemp;
+            }
+
+            PDCManager.setTemperature(item, newTemp);
+            updateItemLore(item, newTemp);
+            itemEntity.setItemStack(item);
+
+            // 冷却到环境温度后移出注册表
+            if (newTemp <= ambientTemp) {
+                it.remove();
+            }
         }
     }
 
-    private void processPlayerInventory(Player player) {
+    /**
+     * 冷却玩家背包中的高温物品。
+     *
+     * @return 冷却后背包中是否仍有高于环境温度的物品
+     */
+    private boolean processPlayerInventory(Player player) {
         double maxTemp = 0;
         boolean burning = false;
+        boolean stillHot = false;
 
-        double ambientTemp = plugin.getConfigManager().getDouble("thermodynamics.ambient_temp", 20.0);
-        double coolingRate = plugin.getConfigManager().getDouble("thermodynamics.cooling_rate", 0.05);
-        double burnThreshold = plugin.getConfigManager().getDouble("thermodynamics.burn_threshold", 100.0);
-        double damageCap = plugin.getConfigManager().getDouble("thermodynamics.damage_cap", 10.0);
+        ConfigSnapshot.ThermoSettings thermo = plugin.getConfigManager().getSettings().thermo();
+        double ambientTemp = thermo.ambientTemp();
+        double coolingRate = thermo.coolingRate();
+        double burnThreshold = thermo.burnThreshold();
+        double damageCap = thermo.damageCap();
 
         // 检查所有物品栏槽位，包括盔甲和副手
         for (ItemStack item : player.getInventory().getContents()) {
@@ -112,6 +571,9 @@ public class ThermodynamicsManager {
                     // 更新物品数据和 Lore
                     PDCManager.setTemperature(item, newTemp);
                     updateItemLore(item, newTemp);
+                    if (newTemp > ambientTemp) {
+                        stillHot = true;
+                    }
 
                     // 玩家灼烧检查
                     if (temp > burnThreshold) {
@@ -129,8 +591,9 @@ public class ThermodynamicsManager {
             // 1000C = 9.0 额外伤害 -> 10.0 总计 (5 颗心)
             double damage = 1.0 + (maxTemp - burnThreshold) / 100.0;
             player.damage(Math.min(damage, damageCap));
-            player.sendActionBar(mm.deserialize(plugin.getConfigManager().getMessage("thermodynamics.burn_warning")));
+            player.sendActionBar(plugin.getConfigManager().getMessageComponent(player, "thermodynamics.burn_warning"));
         }
+        return stillHot;
     }
 
     public void updateItemLore(ItemStack item, double temp) {
@@ -142,7 +605,7 @@ public class ThermodynamicsManager {
             lore = new ArrayList<>();
 
         String prefix = plugin.getConfigManager().getMessage("thermodynamics.lore_temp_prefix");
-        double ambientTemp = plugin.getConfigManager().getDouble("thermodynamics.ambient_temp", 20.0);
+        double ambientTemp = plugin.getConfigManager().getSettings().thermo().ambientTemp();
 
         // 从前缀中移除颜色以便进行纯文本搜索
         String plainPrefix = PlainTextComponentSerializer.plainText().serialize(mm.deserialize(prefix));
@@ -1,28 +1,272 @@
 package com.starryforge.features.core;
 
+import com.starryforge.StarryForge;
+import com.starryforge.utils.Keys;
+import org.bukkit.Chunk;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
-import org.bukkit.metadata.FixedMetadataValue;
-import com.starryforge.StarryForge;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldSaveEvent;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
 
+/**
+ * 防刷：记录玩家放置的方块，挖掘自然方块才会触发采矿掉落。
+ * <p>
+ * 每个区块段 (16x16x16) 用一个 4096 位的位图标记玩家放置的方块，
+ * 保存在区块的 PersistentDataContainer 中 (Keys.PLACED_BLOCKS 下按段存 LONG_ARRAY)，
+ * 重启后依然有效。区块加载时读入内存 (启用时补读已加载的区块)，卸载 / 世界保存 / 插件关闭时写回。
+ * 没有任何标记的区块不占用内存，查询只读内存，不会产生新条目。
+ * 方块被破坏时清除标记，活塞推动时标记随方块移动。
+ */
 public class AntiExploitListener implements Listener {
 
-    public static final String PLACED_BLOCK_KEY = "SF_PLACED_BLOCK";
+    private static final int SECTION_WORDS = 4096 / 64;
+
+    private static AntiExploitListener instance;
+
+    private final StarryForge plugin;
+    // world -> chunkKey -> 已加载的区块位图
+    private final Map<UUID, Map<Long, PlacedChunk>> chunks = new HashMap<>();
+
+    public AntiExploitListener(StarryForge plugin) {
+        this.plugin = plugin;
+        instance = this;
+        // 启用前已加载的区块不会再触发 ChunkLoadEvent
+        for (World world : plugin.getServer().getWorlds()) {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                load(chunk);
+            }
+        }
+    }
+
+    public static boolean isNatural(Block block) {
+        return instance == null || !instance.isPlaced(block);
+    }
+
+    public boolean isPlaced(Block block) {
+        Map<Long, PlacedChunk> worldChunks = chunks.get(block.getWorld().getUID());
+        if (worldChunks == null)
+            return false;
+        PlacedChunk data = worldChunks.get(Chunk.getChunkKey(block.getX() >> 4, block.getZ() >> 4));
+        if (data == null)
+            return false;
+        long[] bits = data.sections.get(block.getY() >> 4);
+        if (bits == null)
+            return false;
+        int index = index(block);
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private void setPlaced(Block block, boolean placed) {
+        Map<Long, PlacedChunk> worldChunks = chunks.computeIfAbsent(block.getWorld().getUID(), k -> new HashMap<>());
+        long chunkKey = Chunk.getChunkKey(block.getX() >> 4, block.getZ() >> 4);
+        PlacedChunk data = worldChunks.get(chunkKey);
+        if (data == null) {
+            if (!placed)
+                return;
+            data = new PlacedChunk();
+            worldChunks.put(chunkKey, data);
+        }
+        int sectionY = block.getY() >> 4;
+        long[] bits = data.sections.get(sectionY);
+        if (bits == null) {
+            if (!placed)
+                return;
+            bits = new long[SECTION_WORDS];
+            data.sections.put(sectionY, bits);
+        }
+        int index = index(block);
+        long before = bits[index >>> 6];
+        if (placed) {
+            bits[index >>> 6] |= 1L << index;
+        } else {
+            bits[index >>> 6] &= ~(1L << index);
+        }
+        if (bits[index >>> 6] != before) {
+            data.dirty = true;
+        }
+    }
+
+    // 段内索引：y(4) z(4) x(4)
+    private static int index(Block block) {
+        return ((block.getY() & 15) << 8) | ((block.getZ() & 15) << 4) | (block.getX() & 15);
+    }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onBlockPlace(BlockPlaceEvent event) {
-        Block block = event.getBlock();
         // 标记该方块为玩家放置
-        // 注意：Metadata 是易失性的，重启服务器后会失效。
-        // 对于严格的防刷，建议配合 CoreProtect API 或持久化存储，
-        // 但对于基础防刷，Metadata 已经能解决大部分即时刷取问题。
-        block.setMetadata(PLACED_BLOCK_KEY, new FixedMetadataValue(StarryForge.getInstance(), true));
+        setPlaced(event.getBlock(), true);
     }
 
-    public static boolean isNatural(Block block) {
-        return !block.hasMetadata(PLACED_BLOCK_KEY);
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        // 在 MONITOR 阶段清除，采矿逻辑已在更早的优先级完成判定
+        setPlaced(event.getBlock(), false);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        moveMarks(event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        moveMarks(event.getBlocks(), event.getDirection());
+    }
+
+    private void moveMarks(List<Block> moved, BlockFace direction) {
+        List<Block> placed = new ArrayList<>();
+        for (Block block : moved) {
+            if (isPlaced(block)) {
+                placed.add(block);
+            }
+        }
+        // 先全部清除再设置，避免相邻方块互相覆盖
+        for (Block block : placed) {
+            setPlaced(block, false);
+        }
+        for (Block block : placed) {
+            setPlaced(block.getRelative(direction), true);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        load(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        Map<Long, PlacedChunk> worldChunks = chunks.get(chunk.getWorld().getUID());
+        if (worldChunks == null)
+            return;
+        PlacedChunk data = worldChunks.remove(chunk.getChunkKey());
+        if (data != null && data.dirty) {
+            write(chunk, data);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldSave(WorldSaveEvent event) {
+        flush(event.getWorld());
+    }
+
+    /**
+     * 写回所有已修改的区块 (插件关闭时调用)。
+     */
+    public void saveAll() {
+        for (World world : plugin.getServer().getWorlds()) {
+            flush(world);
+        }
+        chunks.clear();
+    }
+
+    private void flush(World world) {
+        Map<Long, PlacedChunk> worldChunks = chunks.get(world.getUID());
+        if (worldChunks == null)
+            return;
+        Map<Long, PlacedChunk> unloaded = new HashMap<>();
+        for (Map.Entry<Long, PlacedChunk> entry : worldChunks.entrySet()) {
+            if (!entry.getValue().dirty)
+                continue;
+            long key = entry.getKey();
+            int chunkX = (int) key;
+            int chunkZ = (int) (key >> 32);
+            if (world.isChunkLoaded(chunkX, chunkZ)) {
+                write(world.getChunkAt(chunkX, chunkZ), entry.getValue());
+            } else {
+                unloaded.put(key, entry.getValue());
+            }
+        }
+        // 区块已卸载却仍有未写回的标记：临时加载 (不生成) 后写入，避免丢失
+        for (Map.Entry<Long, PlacedChunk> entry : unloaded.entrySet()) {
+            long key = entry.getKey();
+            int chunkX = (int) key;
+            int chunkZ = (int) (key >> 32);
+            Chunk chunk = world.getChunkAt(chunkX, chunkZ, false);
+            if (chunk == null) {
+                plugin.getLogger().log(Level.WARNING, "无法写回区块 " + world.getName() + " [" + chunkX + ", " + chunkZ
+                        + "] 的玩家放置方块标记");
+                worldChunks.remove(key);
+                continue;
+            }
+            write(chunk, entry.getValue());
+        }
+    }
+
+    private void load(Chunk chunk) {
+        PersistentDataContainer chunkPdc = chunk.getPersistentDataContainer();
+        if (!chunkPdc.has(Keys.PLACED_BLOCKS, PersistentDataType.TAG_CONTAINER))
+            return;
+        PlacedChunk data = read(chunkPdc.get(Keys.PLACED_BLOCKS, PersistentDataType.TAG_CONTAINER));
+        if (!data.sections.isEmpty()) {
+            chunks.computeIfAbsent(chunk.getWorld().getUID(), k -> new HashMap<>()).putIfAbsent(chunk.getChunkKey(), data);
+        }
+    }
+
+    private PlacedChunk read(PersistentDataContainer container) {
+        PlacedChunk data = new PlacedChunk();
+        if (container == null)
+            return data;
+        for (NamespacedKey key : container.getKeys()) {
+            long[] bits = container.get(key, PersistentDataType.LONG_ARRAY);
+            if (bits == null || bits.length != SECTION_WORDS)
+                continue;
+            try {
+                data.sections.put(Integer.parseInt(key.getKey().substring(1)), bits);
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return data;
+    }
+
+    private void write(Chunk chunk, PlacedChunk data) {
+        PersistentDataContainer chunkPdc = chunk.getPersistentDataContainer();
+        PersistentDataContainer container = chunkPdc.getAdapterContext().newPersistentDataContainer();
+        for (Map.Entry<Integer, long[]> entry : data.sections.entrySet()) {
+            if (isEmpty(entry.getValue()))
+                continue;
+            container.set(new NamespacedKey(plugin, "s" + entry.getKey()), PersistentDataType.LONG_ARRAY,
+                    entry.getValue());
+        }
+        if (container.isEmpty()) {
+            chunkPdc.remove(Keys.PLACED_BLOCKS);
+        } else {
+            chunkPdc.set(Keys.PLACED_BLOCKS, PersistentDataType.TAG_CONTAINER, container);
+        }
+        data.dirty = false;
+    }
+
+    private static boolean isEmpty(long[] bits) {
+        for (long word : bits) {
+            if (word != 0)
+                return false;
+        }
+        return true;
+    }
+
+    private static final class PlacedChunk {
+        // sectionY -> 4096 位
+        final Map<Integer, long[]> sections = new HashMap<>();
+        boolean dirty;
     }
 }
@@ -2,20 +2,31 @@ package com.starryforge.features.core;
 
 import com.starryforge.StarryForge;
 import com.starryforge.utils.LogUtil;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ConfigManager {
 
     private final StarryForge plugin;
-    private FileConfiguration langConfig;
+    // 默认语言目录 (settings.locale)
+    private volatile MessageCatalog catalog;
+    // 其他语言目录，首次使用时加载，reload 时清空
+    private final Map<String, MessageCatalog> localeCatalogs = new ConcurrentHashMap<>();
+    private boolean perPlayerLocale;
     private boolean debug;
     private FileConfiguration recipesConfig;
     private FileConfiguration legendaryConfig;
+    // 不可变配置快照，reload 时整体替换
+    private volatile ConfigSnapshot settings;
 
     public ConfigManager(StarryForge plugin) {
         this.plugin = plugin;
@@ -28,10 +39,13 @@ public class ConfigManager {
         FileConfiguration config = plugin.getConfig();
 
         this.debug = config.getBoolean("debug", false);
+        this.perPlayerLocale = config.getBoolean("settings.per_player_locale", false);
 
         loadLang();
         loadRecipes();
         loadLegendaryConfig();
+
+        this.settings = ConfigSnapshot.load(config, legendaryConfig);
     }
 
     private void loadLegendaryConfig() {
@@ -66,6 +80,7 @@ public class ConfigManager {
 
     private void loadLang() {
         String locale = plugin.getConfig().getString("settings.locale", "zh_CN");
+        FileConfiguration langConfig;
         File langFile = new File(plugin.getDataFolder(), "lang/" + locale + ".yml");
 
         // 如果语言文件不存在，尝试从资源中保存
@@ -122,6 +137,48 @@ public class ConfigManager {
         } catch (Exception e) {
             plugin.getLogger().warning("Failed to load default language file from JAR: " + e.getMessage());
         }
+
+        localeCatalogs.clear();
+        this.catalog = MessageCatalog.from(locale, langConfig, null);
+        localeCatalogs.put(locale, catalog);
+        LogUtil.debug("Built message catalog for " + locale + ": " + catalog.size() + " entries.");
+    }
+
+    /**
+     * 加载非默认语言的目录 (只读，不回写文件)。找不到语言文件时使用默认目录。
+     */
+    private MessageCatalog loadCatalog(String locale) {
+        MessageCatalog base = catalog;
+        YamlConfiguration lang = null;
+        File langFile = new File(plugin.getDataFolder(), "lang/" + locale + ".yml");
+        if (langFile.exists()) {
+            lang = YamlConfiguration.loadConfiguration(langFile);
+        }
+        try (java.io.InputStream in = plugin.getResource("lang/" + locale + ".yml")) {
+            if (in != null) {
+                YamlConfiguration defConfig = YamlConfiguration.loadConfiguration(
+                        new java.io.InputStreamReader(in, java.nio.charset.StandardCharsets.UTF_8));
+                if (lang == null) {
+                    lang = defConfig;
+                } else {
+                    lang.setDefaults(defConfig);
+                    lang.options().copyDefaults(true);
+                }
+            }
+        } catch (java.io.IOException e) {
+            plugin.getLogger().warning("Failed to read language resource " + locale + ": " + e.getMessage());
+        }
+        if (lang == null)
+            return base;
+        LogUtil.debug("Loaded message catalog for player locale " + locale);
+        return MessageCatalog.from(locale, lang, base);
+    }
+
+    /**
+     * 当前配置快照。每 tick 的逻辑应读取快照字段而不是按路径查询 YAML。
+     */
+    public ConfigSnapshot getSettings() {
+        return settings;
     }
 
     public boolean isDebug() {
@@ -133,15 +190,61 @@ public class ConfigManager {
     }
 
     public String getMessage(String path) {
-        if (langConfig == null)
-            return "<red>Lang not loaded";
-        return langConfig.getString("messages." + path, "<red>Missing message: " + path);
+        return getMessage(catalog, path);
+    }
+
+    /**
+     * 按接收者的客户端语言取消息 (需开启 settings.per_player_locale)。
+     */
+    public String getMessage(CommandSender sender, String path) {
+        return getMessage(catalogFor(sender), path);
+    }
+
+    /**
+     * 已解析的消息组件。仅适用于不含占位符的消息，含占位符的请用 getMessage 替换后再解析。
+     */
+    public Component getMessageComponent(String path) {
+        return getMessageComponent(catalog, path);
+    }
+
+    public Component getMessageComponent(CommandSender sender, String path) {
+        return getMessageComponent(catalogFor(sender), path);
     }
 
     public List<String> getMessageList(String path) {
-        if (langConfig == null)
-            return new ArrayList<>();
-        return langConfig.getStringList("messages." + path);
+        MessageCatalog current = catalog;
+        if (current == null)
+            return List.of();
+        return current.getList(path);
+    }
+
+    public MessageCatalog getCatalog(String locale) {
+        MessageCatalog current = catalog;
+        if (current == null || locale == null || locale.equals(current.getLocale()))
+            return current;
+        return localeCatalogs.computeIfAbsent(locale, this::loadCatalog);
+    }
+
+    private MessageCatalog catalogFor(CommandSender sender) {
+        if (perPlayerLocale && sender instanceof Player player) {
+            return getCatalog(player.locale().toString());
+        }
+        return catalog;
+    }
+
+    private static String getMessage(MessageCatalog catalog, String path) {
+        if (catalog == null)
+            return "<red>Lang not loaded";
+        String message = catalog.get(path);
+        return message != null ? message : "<red>Missing message: " + path;
+    }
+
+    private static Component getMessageComponent(MessageCatalog catalog, String path) {
+        if (catalog == null)
+            return MiniMessage.miniMessage().deserialize("<red>Lang not loaded");
+        Component component = catalog.component(path);
+        return component != null ? component
+                : MiniMessage.miniMessage().deserialize("<red>Missing message: " + path);
     }
 
     public double getDouble(String path, double def) {
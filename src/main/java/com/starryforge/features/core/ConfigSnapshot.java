@@ -0,0 +1,166 @@
+package com.starryforge.features.core;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 配置快照：config.yml / legendary_config.yml 中每 tick 读取的数值，加载时解析一次。
+ * <p>
+ * 快照不可变，由 ConfigManager 通过 volatile 引用发布，/sf reload 时整体替换。
+ * 调用方在一次处理开始时取一次快照，同一 tick 内读到的是同一份配置。
+ * recipes.yml 已由 AlloyManager / ForgingRecipeManager 在加载时解析为配方对象，此处不重复。
+ */
+public record ConfigSnapshot(
+        ThermoSettings thermo,
+        SluiceSettings sluice,
+        ForgingSettings forging,
+        FrostsighSettings frostsigh,
+        PerfSettings perf) {
+
+    public static ConfigSnapshot load(FileConfiguration config, FileConfiguration legendary) {
+        return new ConfigSnapshot(
+                ThermoSettings.load(config),
+                SluiceSettings.load(config),
+                ForgingSettings.load(config),
+                FrostsighSettings.load(legendary),
+                PerfSettings.load(config));
+    }
+
+    /**
+     * thermodynamics.*
+     */
+    public record ThermoSettings(
+            double ambientTemp,
+            double coolingRate,
+            double waterCoolingRate,
+            double burnThreshold,
+            double damageCap,
+            boolean analyticCooling,
+            int loreRefreshSeconds) {
+
+        static ThermoSettings load(FileConfiguration c) {
+            return new ThermoSettings(
+                    c.getDouble("thermodynamics.ambient_temp", 20.0),
+                    c.getDouble("thermodynamics.cooling_rate", 0.05),
+                    c.getDouble("thermodynamics.water_cooling_rate", 0.5),
+                    c.getDouble("thermodynamics.burn_threshold", 100.0),
+                    c.getDouble("thermodynamics.damage_cap", 10.0),
+                    c.getBoolean("thermodynamics.analytic_cooling", false),
+                    Math.max(1, c.getInt("thermodynamics.lore_refresh_seconds", 5)));
+        }
+    }
+
+    /**
+     * machines.sluice.*
+     */
+    public record SluiceSettings(Map<Integer, Integer> processingTimes) {
+
+        private static final int DEFAULT_SECONDS = 20;
+
+        static SluiceSettings load(FileConfiguration c) {
+            Map<Integer, Integer> times = new HashMap<>();
+            ConfigurationSection section = c.getConfigurationSection("machines.sluice.processing_times");
+            if (section != null) {
+                for (String key : section.getKeys(false)) {
+                    if (!key.startsWith("tier_"))
+                        continue;
+                    try {
+                        times.put(Integer.parseInt(key.substring(5)), section.getInt(key, DEFAULT_SECONDS));
+                    } catch (NumberFormatException ignored) {
+                    }
+                }
+            }
+            return new SluiceSettings(Map.copyOf(times));
+        }
+
+        /**
+         * 指定星级矿簇的处理时间 (秒)
+         */
+        public int processingSeconds(int stars) {
+            return processingTimes.getOrDefault(stars, DEFAULT_SECONDS);
+        }
+    }
+
+    /**
+     * machines.astral_altar.* (难度阶梯仍由 ForgingDifficulty 在开局时读取)
+     */
+    public record ForgingSettings(
+            double interactionDistance,
+            long confirmTimeoutMs,
+            double aimThreshold,
+            double maxBonusPercent,
+            double penaltyBase,
+            double hologramOffsetY,
+            double constellationOffsetY) {
+
+        static ForgingSettings load(FileConfiguration c) {
+            return new ForgingSettings(
+                    c.getDouble("machines.astral_altar.settings.interaction_distance", 6.0),
+                    c.getInt("machines.astral_altar.settings.confirm_timeout_ms", 5000),
+                    c.getDouble("machines.astral_altar.process.aim_threshold", 0.96),
+                    c.getDouble("machines.astral_altar.quality.max_bonus_percent", 0.10),
+                    c.getDouble("machines.astral_altar.quality.penalty_base", 0.50),
+                    c.getDouble("machines.astral_altar.visuals.hologram_offset_y", 1.5),
+                    c.getDouble("machines.astral_altar.visuals.constellation_offset_y", 3.5));
+        }
+    }
+
+    /**
+     * legendary_config.yml: frostsigh.*
+     */
+    public record FrostsighSettings(
+            int maxHoldTicks,
+            long cooldownMs,
+            double readyPercent,
+            double powerPercent,
+            double warnPercent,
+            double damageMultiplierReady,
+            double damageMultiplierEmpowered,
+            double dashDistanceBase,
+            double dashDistanceEmpowered,
+            double passiveBaseChance,
+            double passiveChancePerStar,
+            int stackLimit,
+            long decayMs,
+            int freezeTicksMaintain,
+            double damagePerStack,
+            int dotIntervalTicks,
+            int dotOffsetTicks,
+            double shatterBonusPerStack) {
+
+        static FrostsighSettings load(FileConfiguration c) {
+            return new FrostsighSettings(
+                    c.getInt("frostsigh.max_hold_ticks", 300),
+                    c.getLong("frostsigh.cooldown_ms", 8000),
+                    c.getDouble("frostsigh.thresholds.ready_percent", 0.10),
+                    c.getDouble("frostsigh.thresholds.power_percent", 0.33),
+                    c.getDouble("frostsigh.thresholds.warn_percent", 0.83),
+                    c.getDouble("frostsigh.damage_multipliers.ready", 1.5),
+                    c.getDouble("frostsigh.damage_multipliers.empowered", 2.5),
+                    c.getDouble("frostsigh.dash_distance.base", 12.0),
+                    c.getDouble("frostsigh.dash_distance.empowered", 18.0),
+                    c.getDouble("frostsigh.passive.base_chance", 0.10),
+                    c.getDouble("frostsigh.passive.chance_per_star", 0.0375),
+                    c.getInt("frostsigh.passive.stack_limit", 10),
+                    c.getLong("frostsigh.passive.decay_ms", 10000),
+                    c.getInt("frostsigh.passive.freeze_ticks_maintain", 150),
+                    c.getDouble("frostsigh.passive.scaling_damage_per_stack", 0.5),
+                    c.getInt("frostsigh.passive.dot_interval_ticks", 40),
+                    c.getInt("frostsigh.passive.scaling_damage_offset_ticks", 20),
+                    c.getDouble("frostsigh.passive.shatter_bonus_per_stack", 0.5));
+        }
+    }
+
+    /**
+     * performance.*
+     */
+    public record PerfSettings(boolean monitor) {
+
+        static PerfSettings load(FileConfiguration c) {
+            return new PerfSettings(c.getBoolean("performance.monitor", false));
+        }
+    }
+}
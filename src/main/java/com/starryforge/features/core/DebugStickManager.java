@@ -51,7 +51,7 @@ public class DebugStickManager implements Listener {
 
     public void giveDebugStick(Player player) {
         player.getInventory().addItem(getDebugStick());
-        player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("debug.given")));
+        player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "debug.given"));
     }
 
     @EventHandler
@@ -64,12 +64,12 @@ public class DebugStickManager implements Listener {
             return;
         if (!item.hasItemMeta())
             return;
-        if (!item.getItemMeta().getPersistentDataContainer().has(debugKey, PersistentDataType.BYTE))
+        if (!item.getPersistentDataContainer().has(debugKey, PersistentDataType.BYTE))
             return;
 
         // 权限检查
         if (!player.hasPermission("starryforge.debug")) {
-            player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("debug.no_permission")));
+            player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "debug.no_permission"));
             return;
         }
 
@@ -79,13 +79,13 @@ public class DebugStickManager implements Listener {
         if (event.getAction() == Action.LEFT_CLICK_BLOCK) {
             Block block = event.getClickedBlock();
             if (block != null) {
-                player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("debug.block_info_header")));
+                player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "debug.block_info_header"));
 
-                String typeMsg = plugin.getConfigManager().getMessage("debug.block_type")
+                String typeMsg = plugin.getConfigManager().getMessage(player, "debug.block_type")
                         .replace("{type}", block.getType().toString());
                 player.sendMessage(mm.deserialize(typeMsg));
 
-                String locMsg = plugin.getConfigManager().getMessage("debug.block_location")
+                String locMsg = plugin.getConfigManager().getMessage(player, "debug.block_location")
                         .replace("{x}", String.valueOf(block.getX()))
                         .replace("{y}", String.valueOf(block.getY()))
                         .replace("{z}", String.valueOf(block.getZ()));
@@ -100,21 +100,21 @@ public class DebugStickManager implements Listener {
         else if (event.getAction() == Action.RIGHT_CLICK_AIR || event.getAction() == Action.RIGHT_CLICK_BLOCK) {
             ItemStack target = player.getInventory().getItemInOffHand();
             if (target != null && target.getType() != Material.AIR) {
-                player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("debug.offhand_info_header")));
+                player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "debug.offhand_info_header"));
 
-                String typeMsg = plugin.getConfigManager().getMessage("debug.offhand_type")
+                String typeMsg = plugin.getConfigManager().getMessage(player, "debug.offhand_type")
                         .replace("{type}", target.getType().toString());
                 player.sendMessage(mm.deserialize(typeMsg));
 
                 if (target.hasItemMeta()) {
                     ItemMeta meta = target.getItemMeta();
                     if (meta.hasCustomModelData()) {
-                        String modelMsg = plugin.getConfigManager().getMessage("debug.offhand_model_data")
+                        String modelMsg = plugin.getConfigManager().getMessage(player, "debug.offhand_model_data")
                                 .replace("{data}", String.valueOf(meta.getCustomModelData()));
                         player.sendMessage(mm.deserialize(modelMsg));
                     }
                     // 转储 PDC 键值
-                    player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("debug.pdc_header")));
+                    player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "debug.pdc_header"));
                     meta.getPersistentDataContainer().getKeys().forEach(key -> {
                         // 尝试猜测类型? String, Int, Double...
                         String valStr = "N/A";
@@ -138,7 +138,7 @@ public class DebugStickManager implements Listener {
                                 }
                             }
                         }
-                        String entryMsg = plugin.getConfigManager().getMessage("debug.pdc_entry")
+                        String entryMsg = plugin.getConfigManager().getMessage(player, "debug.pdc_entry")
                                 .replace("{key}", key.toString())
                                 .replace("{value}", valStr);
                         player.sendMessage(mm.deserialize(entryMsg));
@@ -146,13 +146,13 @@ public class DebugStickManager implements Listener {
 
                     // 温度特殊检查
                     if (PDCManager.hasTemperature(target)) {
-                        String tempMsg = plugin.getConfigManager().getMessage("debug.temperature")
-                                .replace("{temp}", String.valueOf(PDCManager.getTemperature(target)));
+                        String tempMsg = plugin.getConfigManager().getMessage(player, "debug.temperature")
+                                .replace("{temp}", String.valueOf(plugin.getThermodynamicsManager().getTemperature(target)));
                         player.sendMessage(mm.deserialize(tempMsg));
                     }
                 }
             } else {
-                player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("debug.offhand_hint")));
+                player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "debug.offhand_hint"));
             }
         }
     }
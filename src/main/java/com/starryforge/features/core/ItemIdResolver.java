@@ -0,0 +1,105 @@
+package com.starryforge.features.core;
+
+import com.starryforge.utils.Keys;
+import com.starryforge.utils.LogUtil;
+import io.papermc.paper.persistence.PersistentDataContainerView;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.lang.ref.WeakReference;
+import java.util.Set;
+
+/**
+ * 跨命名空间的物品 ID 解析 (合金配方等使用的规范 ID)。
+ * <p>
+ * 按固定优先级读取同一个只读 PDC 视图：StarryForge ID → BiomeGifts ID → NexusCore ID，
+ * 都没有时返回材质名。结果按 ItemStack 实例 (引用相等) 缓存在一个小的直接映射表中，
+ * 同一次 GUI 操作里反复解析同一个物品时不再读 PDC。调试日志只在 debug 模式下输出。
+ */
+public final class ItemIdResolver {
+
+    private static final NamespacedKey BIOMEGIFTS_ID = NamespacedKey.fromString("biomegifts:id");
+    private static final NamespacedKey NEXUS_ITEM_ID = NamespacedKey.fromString("nexuscore:item_id");
+
+    // 以 StarryForge ID 保存但实际属于 BiomeGifts 的旧物品
+    private static final Set<String> LEGACY_BIOMEGIFTS_IDS = Set.of(
+            "LIGNITE", "RICH_SLAG", "GOLD_DUST", "CHARGED_DUST", "ICE_SHARD", "TIDE_ESSENCE", "COPPER_CRYSTAL",
+            "JADE_SHARD");
+
+    private static final int CACHE_SIZE = 64; // 2 的幂
+    private static final Entry[] CACHE = new Entry[CACHE_SIZE];
+
+    private ItemIdResolver() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * 解析物品的规范 ID。空物品返回 "AIR"。
+     */
+    public static String resolve(ItemStack item) {
+        if (item == null || item.getType() == Material.AIR)
+            return "AIR";
+
+        int slot = System.identityHashCode(item) & (CACHE_SIZE - 1);
+        synchronized (CACHE) {
+            Entry entry = CACHE[slot];
+            // 同一实例且材质未变时认为 ID 未变
+            if (entry != null && entry.item.get() == item && entry.type == item.getType())
+                return entry.id;
+        }
+
+        String id = lookup(item);
+        synchronized (CACHE) {
+            CACHE[slot] = new Entry(item, id);
+        }
+        return id;
+    }
+
+    private static String lookup(ItemStack item) {
+        if (item.hasItemMeta()) {
+            PersistentDataContainerView pdc = item.getPersistentDataContainer();
+
+            // 1. StarryForge
+            String sfId = pdc.get(Keys.ITEM_ID_KEY, PersistentDataType.STRING);
+            if (sfId != null) {
+                LogUtil.debug("Item has SF ID: " + sfId);
+                if (LEGACY_BIOMEGIFTS_IDS.contains(sfId))
+                    return "BIOMEGIFTS:" + sfId;
+                return sfId.toUpperCase();
+            }
+
+            // 2. BiomeGifts
+            String bgId = pdc.get(BIOMEGIFTS_ID, PersistentDataType.STRING);
+            if (bgId != null) {
+                LogUtil.debug("Item has BG ID: " + bgId);
+                String upper = bgId.toUpperCase();
+                return upper.startsWith("BIOMEGIFTS:") ? upper : "BIOMEGIFTS:" + upper;
+            }
+
+            // 3. NexusCore：不带命名空间的 ID 视为 BiomeGifts 物品
+            String nexusId = pdc.get(NEXUS_ITEM_ID, PersistentDataType.STRING);
+            if (nexusId != null) {
+                LogUtil.debug("Item has NexusCore ID: " + nexusId);
+                return nexusId.contains(":") ? nexusId.toUpperCase() : "BIOMEGIFTS:" + nexusId.toUpperCase();
+            }
+        }
+
+        // 4. 原版材质
+        LogUtil.debug("Item fallback to Material: " + item.getType().name());
+        return item.getType().name();
+    }
+
+    private static final class Entry {
+        final WeakReference<ItemStack> item;
+        final Material type;
+        final String id;
+
+        Entry(ItemStack item, String id) {
+            this.item = new WeakReference<>(item);
+            this.type = item.getType();
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.starryforge.features.core;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 单个语言的消息目录。
+ * <p>
+ * 加载时把 messages.* 展开为 路径 -> 条目 的扁平表（已合并 JAR 默认值），
+ * 之后查询只是一次 HashMap 访问。条目同时保存原始字符串和首次使用时解析的 Component，
+ * 不含占位符的消息可以直接复用解析结果。缺失的键回退到 fallback 目录 (默认语言)。
+ */
+public class MessageCatalog {
+
+    private static final MiniMessage MM = MiniMessage.miniMessage();
+
+    private final String locale;
+    private final Map<String, Entry> messages;
+    private final Map<String, List<String>> lists;
+    private final MessageCatalog fallback;
+
+    private MessageCatalog(String locale, Map<String, Entry> messages, Map<String, List<String>> lists,
+            MessageCatalog fallback) {
+        this.locale = locale;
+        this.messages = messages;
+        this.lists = lists;
+        this.fallback = fallback;
+    }
+
+    /**
+     * 从语言文件根节点构建目录。
+     *
+     * @param root     语言文件 (含 messages 节点)
+     * @param fallback 缺失键时查询的目录，可为 null
+     */
+    public static MessageCatalog from(String locale, ConfigurationSection root, MessageCatalog fallback) {
+        Map<String, Entry> messages = new HashMap<>();
+        Map<String, List<String>> lists = new HashMap<>();
+        ConfigurationSection section = root == null ? null : root.getConfigurationSection("messages");
+        if (section != null) {
+            for (String key : section.getKeys(true)) {
+                if (section.isConfigurationSection(key))
+                    continue;
+                if (section.isList(key)) {
+                    lists.put(key, List.copyOf(section.getStringList(key)));
+                } else {
+                    String value = section.getString(key);
+                    if (value != null) {
+                        messages.put(key, new Entry(value));
+                    }
+                }
+            }
+        }
+        return new MessageCatalog(locale, messages, lists, fallback);
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public int size() {
+        return messages.size() + lists.size();
+    }
+
+    /**
+     * 原始 MiniMessage 字符串，缺失时返回 null。
+     */
+    public String get(String path) {
+        Entry entry = entry(path);
+        return entry == null ? null : entry.raw;
+    }
+
+    /**
+     * 解析后的消息组件，缺失时返回 null。
+     */
+    public Component component(String path) {
+        Entry entry = entry(path);
+        return entry == null ? null : entry.component();
+    }
+
+    public List<String> getList(String path) {
+        List<String> list = lists.get(path);
+        if (list == null && fallback != null)
+            return fallback.getList(path);
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    private Entry entry(String path) {
+        Entry entry = messages.get(path);
+        if (entry == null && fallback != null)
+            return fallback.entry(path);
+        return entry;
+    }
+
+    private static final class Entry {
+        private final String raw;
+        // 首次使用时解析；Component 不可变，重复解析的竞争无害
+        private volatile Component parsed;
+
+        private Entry(String raw) {
+            this.raw = raw;
+        }
+
+        private Component component() {
+            Component c = parsed;
+            if (c == null) {
+                c = MM.deserialize(raw);
+                parsed = c;
+            }
+            return c;
+        }
+    }
+}
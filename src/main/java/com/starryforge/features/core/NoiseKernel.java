@@ -0,0 +1,180 @@
+package com.starryforge.features.core;
+
+import java.util.Random;
+
+/**
+ * 矿脉潜力的噪声内核。
+ * <p>
+ * 与 Bukkit PerlinNoiseGenerator(new Random(seed)) 逐位一致（同样的置换表、偏移和梯度），
+ * 已生成的矿脉分布不会改变。构造后不可变，可在任意线程调用。
+ * <p>
+ * {@link #sampleBlock} 按轴预先计算格点、小数部分和 fade 曲线，区域查询时每个采样点
+ * 只剩置换表查找和插值；轴缓冲按线程复用，不产生逐点分配。
+ */
+public final class NoiseKernel {
+
+    private final int[] perm = new int[512];
+    private final double offsetX;
+    private final double offsetY;
+    private final double offsetZ;
+
+    private final double baseScale;
+    private final double detailScale;
+    private final double detailWeight;
+
+    private static final ThreadLocal<Axis[]> SCRATCH = ThreadLocal.withInitial(() -> new Axis[] {
+            new Axis(), new Axis(), new Axis(), new Axis(), new Axis(), new Axis() });
+
+    public NoiseKernel(long seed, double baseScale, double detailScale, double detailWeight) {
+        // 初始化顺序必须与 PerlinNoiseGenerator(Random) 相同
+        Random rand = new Random(seed);
+        offsetX = rand.nextDouble() * 256;
+        offsetY = rand.nextDouble() * 256;
+        offsetZ = rand.nextDouble() * 256;
+
+        for (int i = 0; i < 256; i++) {
+            perm[i] = rand.nextInt(256);
+        }
+        for (int i = 0; i < 256; i++) {
+            int pos = rand.nextInt(256 - i) + i;
+            int old = perm[i];
+            perm[i] = perm[pos];
+            perm[pos] = old;
+            perm[i + 256] = perm[i];
+        }
+
+        this.baseScale = baseScale;
+        this.detailScale = detailScale;
+        this.detailWeight = detailWeight;
+    }
+
+    /**
+     * 单点潜力 (0.0 - 1.0)：基础噪声 + 细节噪声，归一化并钳制。
+     */
+    public double potency(int x, int y, int z) {
+        double base = noise(x * baseScale, y * baseScale, z * baseScale);
+        double detail = noise(x * detailScale, y * detailScale, z * detailScale) * detailWeight;
+        return normalize(base + detail);
+    }
+
+    /**
+     * 批量采样 [x0, x0+sx) x [y0, y0+sy) x [z0, z0+sz) 的潜力值。
+     * 输出按 x 最快、其次 z、最后 y 排列：out[(dy * sz + dz) * sx + dx]。
+     */
+    public void sampleBlock(int x0, int y0, int z0, int sx, int sy, int sz, float[] out) {
+        if (out.length < sx * sy * sz)
+            throw new IllegalArgumentException("Output buffer too small: " + out.length + " < " + (sx * sy * sz));
+
+        Axis[] axes = SCRATCH.get();
+        Axis bx = axes[0].fill(x0, sx, baseScale, offsetX);
+        Axis by = axes[1].fill(y0, sy, baseScale, offsetY);
+        Axis bz = axes[2].fill(z0, sz, baseScale, offsetZ);
+        Axis dxAxis = axes[3].fill(x0, sx, detailScale, offsetX);
+        Axis dyAxis = axes[4].fill(y0, sy, detailScale, offsetY);
+        Axis dzAxis = axes[5].fill(z0, sz, detailScale, offsetZ);
+
+        int i = 0;
+        for (int dy = 0; dy < sy; dy++) {
+            for (int dz = 0; dz < sz; dz++) {
+                for (int dx = 0; dx < sx; dx++) {
+                    double base = lattice(bx.cell[dx], by.cell[dy], bz.cell[dz],
+                            bx.frac[dx], by.frac[dy], bz.frac[dz],
+                            bx.fade[dx], by.fade[dy], bz.fade[dz]);
+                    double detail = lattice(dxAxis.cell[dx], dyAxis.cell[dy], dzAxis.cell[dz],
+                            dxAxis.frac[dx], dyAxis.frac[dy], dzAxis.frac[dz],
+                            dxAxis.fade[dx], dyAxis.fade[dy], dzAxis.fade[dz]) * detailWeight;
+                    out[i++] = (float) normalize(base + detail);
+                }
+            }
+        }
+    }
+
+    /**
+     * 3D Perlin 噪声 (-1 到 1)，与 PerlinNoiseGenerator#noise(double, double, double) 一致。
+     */
+    public double noise(double x, double y, double z) {
+        x += offsetX;
+        y += offsetY;
+        z += offsetZ;
+
+        int floorX = floor(x);
+        int floorY = floor(y);
+        int floorZ = floor(z);
+
+        x -= floorX;
+        y -= floorY;
+        z -= floorZ;
+
+        return lattice(floorX & 255, floorY & 255, floorZ & 255, x, y, z, fade(x), fade(y), fade(z));
+    }
+
+    private double lattice(int X, int Y, int Z, double x, double y, double z, double fX, double fY, double fZ) {
+        int A = perm[X] + Y;
+        int AA = perm[A] + Z;
+        int AB = perm[A + 1] + Z;
+        int B = perm[X + 1] + Y;
+        int BA = perm[B] + Z;
+        int BB = perm[B + 1] + Z;
+
+        return lerp(fZ, lerp(fY, lerp(fX, grad(perm[AA], x, y, z),
+                grad(perm[BA], x - 1, y, z)),
+                lerp(fX, grad(perm[AB], x, y - 1, z),
+                        grad(perm[BB], x - 1, y - 1, z))),
+                lerp(fY, lerp(fX, grad(perm[AA + 1], x, y, z - 1),
+                        grad(perm[BA + 1], x - 1, y, z - 1)),
+                        lerp(fX, grad(perm[AB + 1], x, y - 1, z - 1),
+                                grad(perm[BB + 1], x - 1, y - 1, z - 1))));
+    }
+
+    private static double normalize(double noise) {
+        // 归一化到 0.0 - 1.0 (Perlin通常输出 -1 到 1)，钳制防止溢出
+        double normalized = (noise + 1.0) / 2.0;
+        return Math.max(0.0, Math.min(1.0, normalized));
+    }
+
+    // 与 NoiseGenerator#floor 相同 (负整数也减一)
+    private static int floor(double x) {
+        return x >= 0 ? (int) x : (int) x - 1;
+    }
+
+    private static double fade(double x) {
+        return x * x * x * (x * (x * 6 - 15) + 10);
+    }
+
+    private static double lerp(double x, double y, double z) {
+        return y + x * (z - y);
+    }
+
+    private static double grad(int hash, double x, double y, double z) {
+        hash &= 15;
+        double u = hash < 8 ? x : y;
+        double v = hash < 4 ? y : hash == 12 || hash == 14 ? x : z;
+        return ((hash & 1) == 0 ? u : -u) + ((hash & 2) == 0 ? v : -v);
+    }
+
+    /**
+     * 单轴预计算：格点索引、格内小数、fade 值。
+     */
+    private static final class Axis {
+        int[] cell = new int[16];
+        double[] frac = new double[16];
+        double[] fade = new double[16];
+
+        Axis fill(int start, int count, double scale, double offset) {
+            if (cell.length < count) {
+                cell = new int[count];
+                frac = new double[count];
+                fade = new double[count];
+            }
+            for (int i = 0; i < count; i++) {
+                double v = (start + i) * scale + offset;
+                int f = floor(v);
+                double t = v - f;
+                cell[i] = f & 255;
+                frac[i] = t;
+                fade[i] = NoiseKernel.fade(t);
+            }
+            return this;
+        }
+    }
+}
@@ -1,44 +1,100 @@
 package com.starryforge.features.core;
 
-import org.bukkit.util.noise.PerlinNoiseGenerator;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.World;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
-public class NoiseManager {
+public class NoiseManager implements Listener {
 
     // private final long worldSeed;
-    private final PerlinNoiseGenerator generator;
+    private final NoiseKernel kernel;
     private static final double SCALE = 0.005; // 频率：控制矿脉大小
     // private static final double THRESHOLD = 0.85; // 阈值：控制稀缺度 (> 0.85 约为 5%)
     
     // 二次噪声用于制造更自然的边缘抖动，避免矿脉边缘过于平滑
     private static final double DETAIL_SCALE = 0.05; 
+    private static final double DETAIL_WEIGHT = 0.1;
+
+    // 潜力缓存：按区块段 (16x16x16) 存放量化后的潜力值，逐格惰性填充。
+    // 潜力只与坐标有关 (与世界无关)，区块卸载时丢弃；按访问顺序淘汰，每段 8 KB，上限约 16 MB
+    private static final int MAX_CACHED_SECTIONS = 2048;
+    // 量化精度：potency = (q - 1) / QUANT_MAX，q = 0 表示尚未计算
+    private static final int QUANT_MAX = 65534;
+
+    private final Map<Long, char[]> potencyCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, char[]> eldest) {
+            return size() > MAX_CACHED_SECTIONS;
+        }
+    };
 
     public NoiseManager(long seed) {
         // this.worldSeed = seed;
-        this.generator = new PerlinNoiseGenerator(new Random(seed));
+        // 内核与 PerlinNoiseGenerator(new Random(seed)) 输出一致
+        this.kernel = new NoiseKernel(seed, SCALE, DETAIL_SCALE, DETAIL_WEIGHT);
     }
 
     /**
-     * 获取原始噪声潜力 (0.0 - 1.0)
+     * 获取噪声潜力 (0.0 - 1.0)，优先读取区块段缓存 (量化误差 < 1e-4)
      * @param x 坐标X
      * @param y 坐标Y
      * @param z 坐标Z
      * @return 归一化后的噪声值
      */
     public double getRawPotency(int x, int y, int z) {
-        // 使用 3D 噪声
-        double baseNoise = generator.noise(x * SCALE, y * SCALE, z * SCALE);
-        
-        // 添加细节噪声
-        double detailNoise = generator.noise(x * DETAIL_SCALE, y * DETAIL_SCALE, z * DETAIL_SCALE) * 0.1;
-        
-        double finalNoise = baseNoise + detailNoise;
+        synchronized (potencyCache) {
+            char[] section = section(x, y, z);
+            int index = ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+            int q = section[index];
+            if (q == 0) {
+                q = 1 + (int) Math.round(computePotency(x, y, z) * QUANT_MAX);
+                section[index] = (char) q;
+            }
+            return (q - 1) / (double) QUANT_MAX;
+        }
+    }
 
-        // 归一化到 0.0 - 1.0 (Perlin通常输出 -1 到 1)
-        double normalized = (finalNoise + 1.0) / 2.0;
-        
-        // 钳制到 0-1 防止溢出
-        return Math.max(0.0, Math.min(1.0, normalized));
+    private char[] section(int x, int y, int z) {
+        return potencyCache.computeIfAbsent(sectionKey(x >> 4, y >> 4, z >> 4), k -> new char[4096]);
+    }
+
+    // 区块 X/Z 各 26 位 (覆盖 ±3000 万格世界边界)，段 Y 12 位
+    private static long sectionKey(int chunkX, int sectionY, int chunkZ) {
+        return ((chunkX & 0x3FFFFFFL) << 38) | ((chunkZ & 0x3FFFFFFL) << 12) | (sectionY & 0xFFFL);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        World world = event.getWorld();
+        int chunkX = event.getChunk().getX();
+        int chunkZ = event.getChunk().getZ();
+        synchronized (potencyCache) {
+            for (int sy = world.getMinHeight() >> 4; sy <= (world.getMaxHeight() - 1) >> 4; sy++) {
+                potencyCache.remove(sectionKey(chunkX, sy, chunkZ));
+            }
+        }
+    }
+
+    /**
+     * 直接计算原始噪声潜力 (0.0 - 1.0)，不经过缓存
+     */
+    private double computePotency(int x, int y, int z) {
+        return kernel.potency(x, y, z);
+    }
+
+    /**
+     * 批量采样区域潜力 (不经过缓存)，输出顺序见 {@link NoiseKernel#sampleBlock}。
+     * 适用于可视化、扫描等一次查询整块区域的场景。
+     */
+    public void sampleBlock(int x0, int y0, int z0, int sx, int sy, int sz, float[] out) {
+        kernel.sampleBlock(x0, y0, z0, sx, sy, sz, out);
     }
 
     /**
@@ -52,7 +108,7 @@ public class NoiseManager {
      */
     public int calculateClusterQuality(int x, int y, int z, boolean isRichBiome, boolean isPoorBiome) {
         double potency = getRawPotency(x, y, z);
-        Random random = new Random();
+        Random random = ThreadLocalRandom.current();
 
         // 贫瘠区
         if (isPoorBiome) {
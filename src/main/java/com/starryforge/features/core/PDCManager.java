@@ -1,63 +1,78 @@
 package com.starryforge.features.core;
 
 import com.starryforge.utils.Keys;
+import io.papermc.paper.persistence.PersistentDataContainerView;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
+import java.util.function.Consumer;
+
+/**
+ * 物品 PDC 读写工具。
+ * <p>
+ * 读取走 Paper 的只读视图 {@link ItemStack#getPersistentDataContainer()}，不会复制整个 ItemMeta；
+ * 写入多个键时使用 {@link #edit(ItemStack, Consumer)}，只做一次 getItemMeta/setItemMeta。
+ */
 public class PDCManager {
 
     private PDCManager() {
         throw new UnsupportedOperationException("Utility class");
     }
 
+    /**
+     * 只读 PDC 视图 (无 meta 拷贝)。item 为 null 时返回 null。
+     */
+    public static PersistentDataContainerView view(ItemStack item) {
+        if (item == null) return null;
+        return item.getPersistentDataContainer();
+    }
+
+    /**
+     * 批量修改 PDC：所有写入共用一份 ItemMeta，结束时写回一次。
+     *
+     * @return 物品是否有 meta 且已写回
+     */
+    public static boolean edit(ItemStack item, Consumer<PersistentDataContainer> editor) {
+        if (item == null || !item.hasItemMeta()) return false;
+        return item.editMeta(meta -> editor.accept(meta.getPersistentDataContainer()));
+    }
+
     // 通用 Getters/Setters
     public static void setString(ItemStack item, NamespacedKey key, String value) {
-        if (item == null || !item.hasItemMeta()) return;
-        ItemMeta meta = item.getItemMeta();
-        meta.getPersistentDataContainer().set(key, PersistentDataType.STRING, value);
-        item.setItemMeta(meta);
+        edit(item, pdc -> pdc.set(key, PersistentDataType.STRING, value));
     }
 
     public static String getString(ItemStack item, NamespacedKey key) {
         if (item == null || !item.hasItemMeta()) return null;
-        return item.getItemMeta().getPersistentDataContainer().get(key, PersistentDataType.STRING);
+        return item.getPersistentDataContainer().get(key, PersistentDataType.STRING);
     }
 
     public static void setDouble(ItemStack item, NamespacedKey key, double value) {
-        if (item == null || !item.hasItemMeta()) return;
-        ItemMeta meta = item.getItemMeta();
-        meta.getPersistentDataContainer().set(key, PersistentDataType.DOUBLE, value);
-        item.setItemMeta(meta);
+        edit(item, pdc -> pdc.set(key, PersistentDataType.DOUBLE, value));
     }
 
     public static double getDouble(ItemStack item, NamespacedKey key) {
         if (item == null || !item.hasItemMeta()) return 0.0;
-        PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
-        return pdc.getOrDefault(key, PersistentDataType.DOUBLE, 0.0);
+        return item.getPersistentDataContainer().getOrDefault(key, PersistentDataType.DOUBLE, 0.0);
     }
     
     public static void setInt(ItemStack item, NamespacedKey key, int value) {
-        if (item == null || !item.hasItemMeta()) return;
-        ItemMeta meta = item.getItemMeta();
-        meta.getPersistentDataContainer().set(key, PersistentDataType.INTEGER, value);
-        item.setItemMeta(meta);
+        edit(item, pdc -> pdc.set(key, PersistentDataType.INTEGER, value));
     }
 
     public static int getInt(ItemStack item, NamespacedKey key) {
         if (item == null || !item.hasItemMeta()) return 0;
-        PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
-        return pdc.getOrDefault(key, PersistentDataType.INTEGER, 0);
+        return item.getPersistentDataContainer().getOrDefault(key, PersistentDataType.INTEGER, 0);
     }
     
+    /**
+     * 是否存在该键 (任意类型，单次查询)。
+     */
     public static boolean hasKey(ItemStack item, NamespacedKey key) {
         if (item == null || !item.hasItemMeta()) return false;
-        PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
-        return pdc.has(key, PersistentDataType.STRING) ||
-               pdc.has(key, PersistentDataType.DOUBLE) ||
-               pdc.has(key, PersistentDataType.INTEGER);
+        return item.getPersistentDataContainer().has(key);
     }
 
     // 特定温度方法
@@ -71,6 +86,6 @@ public class PDCManager {
     
     public static boolean hasTemperature(ItemStack item) {
         if (item == null || !item.hasItemMeta()) return false;
-        return item.getItemMeta().getPersistentDataContainer().has(Keys.TEMPERATURE_KEY, PersistentDataType.DOUBLE);
+        return item.getPersistentDataContainer().has(Keys.TEMPERATURE_KEY, PersistentDataType.DOUBLE);
     }
 }
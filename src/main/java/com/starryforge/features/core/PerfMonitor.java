@@ -0,0 +1,323 @@
+package com.starryforge.features.core;
+
+import com.starryforge.StarryForge;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 运行时性能监控与 tick 分析器。
+ * <p>
+ * 各子系统的主线程任务用 {@link #begin}/{@link #end} 包裹，按 tick 累计墙钟时间和线程分配量，
+ * 保留最近 {@link #WINDOW_TICKS} 个活跃 tick 的耗时 (每 tick 分位数) 和按 2 的幂分桶的单次调用直方图，
+ * 供 /sf profile dump 输出。
+ * <p>
+ * 关闭时 begin/end 只有一次布尔判断；非主线程的调用 (如异步的属性查询) 会被忽略。
+ */
+public class PerfMonitor {
+
+    /**
+     * 被监控的子系统，id 用于汇总与 CSV 输出。
+     */
+    public enum Section {
+        SLUICE("sluice"),
+        SMELTING("smelting"),
+        FORGING("forging"),
+        THERMODYNAMICS("thermodynamics"),
+        FROST_MARKS("frost_marks"),
+        RESONATORS("resonators"),
+        STAT_PROVIDERS("stat_providers");
+
+        private final String id;
+
+        Section(String id) {
+            this.id = id;
+        }
+
+        public String id() {
+            return id;
+        }
+    }
+
+    // 滚动窗口长度 (活跃 tick 数，约 1 分钟)
+    public static final int WINDOW_TICKS = 1200;
+    // 单次调用直方图：桶 i 覆盖 [2^(i-1), 2^i) 纳秒
+    private static final int CALL_BUCKETS = 40;
+
+    private static final Section[] SECTIONS = Section.values();
+
+    private final StarryForge plugin;
+    private final Thread mainThread;
+    private final com.sun.management.ThreadMXBean threads;
+
+    private volatile boolean enabled;
+    // 由 /sf profile start 手动开启，reload 时不受 performance.monitor 影响
+    private boolean manual;
+    private long startedAt;
+    private long stoppedAt;
+
+    // 当前调用
+    private final long[] startNanos = new long[SECTIONS.length];
+    private final long[] startAlloc = new long[SECTIONS.length];
+    // 当前 tick 累计
+    private final long[] tickNanos = new long[SECTIONS.length];
+    private final long[] tickAlloc = new long[SECTIONS.length];
+    private final int[] tickCalls = new int[SECTIONS.length];
+    // 启用以来的统计
+    private final Stats[] stats = new Stats[SECTIONS.length];
+
+    private BukkitRunnable task;
+
+    public PerfMonitor(StarryForge plugin) {
+        this.plugin = plugin;
+        this.mainThread = Thread.currentThread();
+        com.sun.management.ThreadMXBean bean = null;
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean mx
+                && mx.isThreadAllocatedMemorySupported()) {
+            mx.setThreadAllocatedMemoryEnabled(true);
+            bean = mx;
+        }
+        this.threads = bean;
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = new Stats();
+        }
+        configure(plugin.getConfigManager().getSettings().perf());
+    }
+
+    /**
+     * 应用配置 (启动与 /sf reload 时调用)。
+     */
+    public void configure(ConfigSnapshot.PerfSettings settings) {
+        if (settings.monitor()) {
+            start();
+        } else if (!manual) {
+            stop();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void start() {
+        if (enabled)
+            return;
+        reset();
+        enabled = true;
+        startedAt = System.currentTimeMillis();
+        task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                rollover();
+            }
+        };
+        task.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    public void stop() {
+        if (enabled) {
+            stoppedAt = System.currentTimeMillis();
+        }
+        enabled = false;
+        manual = false;
+        if (task != null && !task.isCancelled()) {
+            task.cancel();
+        }
+        task = null;
+    }
+
+    /**
+     * /sf profile start：清空统计并开始采样，直到 /sf profile stop。
+     */
+    public void startProfiling() {
+        stop();
+        manual = true;
+        start();
+    }
+
+    public void begin(Section section) {
+        if (!enabled || Thread.currentThread() != mainThread)
+            return;
+        int i = section.ordinal();
+        startAlloc[i] = allocatedBytes();
+        startNanos[i] = System.nanoTime();
+    }
+
+    public void end(Section section) {
+        if (!enabled || Thread.currentThread() != mainThread)
+            return;
+        int i = section.ordinal();
+        if (startNanos[i] == 0)
+            return; // 在 begin 之后才启用
+        long elapsed = System.nanoTime() - startNanos[i];
+        startNanos[i] = 0;
+        tickNanos[i] += elapsed;
+        tickAlloc[i] += allocatedBytes() - startAlloc[i];
+        tickCalls[i]++;
+        stats[i].callBuckets[Math.min(CALL_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(elapsed))]++;
+    }
+
+    private long allocatedBytes() {
+        return threads != null ? threads.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    /**
+     * 每 tick 结束时结算累计值。
+     */
+    private void rollover() {
+        for (int i = 0; i < SECTIONS.length; i++) {
+            if (tickCalls[i] == 0)
+                continue;
+            Stats s = stats[i];
+            s.activeTicks++;
+            s.calls += tickCalls[i];
+            s.totalNanos += tickNanos[i];
+            s.totalAlloc += tickAlloc[i];
+            s.maxTickNanos = Math.max(s.maxTickNanos, tickNanos[i]);
+            s.window[s.windowPos] = tickNanos[i];
+            s.windowPos = (s.windowPos + 1) % WINDOW_TICKS;
+            s.windowSize = Math.min(WINDOW_TICKS, s.windowSize + 1);
+
+            tickNanos[i] = 0;
+            tickAlloc[i] = 0;
+            tickCalls[i] = 0;
+        }
+    }
+
+    public void reset() {
+        for (int i = 0; i < SECTIONS.length; i++) {
+            stats[i] = new Stats();
+            startNanos[i] = 0;
+            tickNanos[i] = 0;
+            tickAlloc[i] = 0;
+            tickCalls[i] = 0;
+        }
+    }
+
+    /**
+     * 各子系统的汇总，每个有数据的子系统一行。
+     */
+    public List<String> summary() {
+        List<String> lines = new ArrayList<>();
+        for (Section section : SECTIONS) {
+            Stats s = stats[section.ordinal()];
+            if (s.activeTicks == 0)
+                continue;
+            lines.add(String.format(Locale.ROOT,
+                    "%s: avg %.3fms/tick, p95 %.3fms, max %.3fms, %d calls over %d ticks, avg %d KB/tick",
+                    section.id(), s.totalNanos / 1e6 / s.activeTicks, s.tickPercentile(0.95) / 1e6,
+                    s.maxTickNanos / 1e6, s.calls, s.activeTicks, s.totalAlloc / 1024 / s.activeTicks));
+        }
+        return lines;
+    }
+
+    /**
+     * 子系统最近窗口内每 tick 耗时的分位数 (毫秒)，没有数据时为 0。
+     */
+    public double tickPercentileMillis(Section section, double p) {
+        return stats[section.ordinal()].tickPercentile(p) / 1e6;
+    }
+
+    /**
+     * 子系统平均每个活跃 tick 的线程分配量 (字节)，JVM 不支持分配统计时为 0。
+     */
+    public long allocatedBytesPerTick(Section section) {
+        Stats s = stats[section.ordinal()];
+        return s.activeTicks == 0 ? 0 : s.totalAlloc / s.activeTicks;
+    }
+
+    public long activeTicks(Section section) {
+        return stats[section.ordinal()].activeTicks;
+    }
+
+    /**
+     * 将当前统计写入 plugins/StarryForge/profiles/ 下的 CSV 文件。
+     * 第一部分为每个子系统的汇总，第二部分为单次调用耗时直方图。
+     *
+     * @return 写入的文件
+     */
+    public File dump() throws IOException {
+        File dir = new File(plugin.getDataFolder(), "profiles");
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException("Could not create " + dir);
+        }
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        File file = new File(dir, "profile-" + stamp + ".csv");
+
+        try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8)) {
+            long duration = (enabled ? System.currentTimeMillis() : stoppedAt) - startedAt;
+            out.println("# started_at=" + startedAt + ",duration_ms=" + duration + ",window_ticks=" + WINDOW_TICKS);
+            out.println("section,active_ticks,calls,avg_tick_ms,p50_tick_ms,p95_tick_ms,p99_tick_ms,max_tick_ms,"
+                    + "p50_call_us,p99_call_us,alloc_kb_per_tick");
+            for (Section section : SECTIONS) {
+                Stats s = stats[section.ordinal()];
+                double avg = s.activeTicks == 0 ? 0 : s.totalNanos / 1e6 / s.activeTicks;
+                long allocPerTick = s.activeTicks == 0 ? 0 : s.totalAlloc / 1024 / s.activeTicks;
+                out.println(String.format(Locale.ROOT, "%s,%d,%d,%.4f,%.4f,%.4f,%.4f,%.4f,%.2f,%.2f,%d",
+                        section.id(), s.activeTicks, s.calls, avg,
+                        s.tickPercentile(0.50) / 1e6, s.tickPercentile(0.95) / 1e6, s.tickPercentile(0.99) / 1e6,
+                        s.maxTickNanos / 1e6, s.callPercentile(0.50) / 1e3, s.callPercentile(0.99) / 1e3,
+                        allocPerTick));
+            }
+            out.println();
+            out.println("section,call_ns_upper,calls");
+            for (Section section : SECTIONS) {
+                long[] buckets = stats[section.ordinal()].callBuckets;
+                for (int b = 0; b < CALL_BUCKETS; b++) {
+                    if (buckets[b] > 0) {
+                        out.println(section.id() + "," + (1L << b) + "," + buckets[b]);
+                    }
+                }
+            }
+        }
+        return file;
+    }
+
+    private static final class Stats {
+        long activeTicks;
+        long calls;
+        long totalNanos;
+        long totalAlloc;
+        long maxTickNanos;
+        // 最近 WINDOW_TICKS 个活跃 tick 的耗时 (环形缓冲)
+        final long[] window = new long[WINDOW_TICKS];
+        int windowPos;
+        int windowSize;
+        final long[] callBuckets = new long[CALL_BUCKETS];
+
+        long tickPercentile(double p) {
+            if (windowSize == 0)
+                return 0;
+            long[] sorted = Arrays.copyOf(window, windowSize);
+            Arrays.sort(sorted);
+            return sorted[Math.min(windowSize - 1, (int) Math.ceil(p * windowSize) - 1)];
+        }
+
+        // 分桶精度：返回所在桶的上界
+        long callPercentile(double p) {
+            long total = 0;
+            for (long c : callBuckets)
+                total += c;
+            if (total == 0)
+                return 0;
+            long target = (long) Math.ceil(p * total);
+            long seen = 0;
+            for (int b = 0; b < CALL_BUCKETS; b++) {
+                seen += callBuckets[b];
+                if (seen >= target)
+                    return 1L << b;
+            }
+            return 1L << (CALL_BUCKETS - 1);
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package com.starryforge.features.forging;
+
+import com.starryforge.StarryForge;
+import com.starryforge.utils.LogUtil;
+import com.starryforge.utils.SerializationUtils;
+import org.bukkit.Location;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 星魂祭坛会话的预写日志。
+ * <p>
+ * 会话变更以单行记录追加到 altar_sessions.journal，所有编码与磁盘 I/O 都在独立线程上执行；
+ * 每追加 {@link #COMPACT_THRESHOLD} 条记录，日志会被压缩为 altar_sessions.yml 快照并清空，
+ * 启动回放完成后和插件关闭时也会各压缩一次。日志因此最多保留 COMPACT_THRESHOLD 条记录，
+ * 空闲的服务器上日志不会增长，无需定时压缩。
+ * 启动时先读取快照，再按顺序回放日志。
+ */
+class AltarSessionJournal {
+
+    // 日志记录数达到该值时压缩为快照
+    private static final int COMPACT_THRESHOLD = 256;
+    private static final String SEP = "\t";
+
+    private final StarryForge plugin;
+    private final File snapshotFile;
+    private final File journalFile;
+    private final ExecutorService io = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "StarryForge-AltarJournal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 以下字段仅在 I/O 线程访问
+    private final Map<String, SessionRecord> state = new LinkedHashMap<>();
+    private BufferedWriter writer;
+    private int appendedSinceCompact = 0;
+
+    /**
+     * 已编码的会话记录，物品以 SerializationUtils.itemToString 的文本保存。
+     */
+    record SessionRecord(String world, int x, int y, int z, String playerId, String blueprint, int currentPhase,
+            int maxPhases, double qualityScore, List<Integer> materialStars, List<Double> qteScores, String ingot,
+            String recipeId) {
+
+        String key() {
+            return key(world, x, y, z);
+        }
+
+        static String key(String world, int x, int y, int z) {
+            return world + ":" + x + ":" + y + ":" + z;
+        }
+    }
+
+    /**
+     * 主线程上截取的会话状态，物品已复制，可安全交给 I/O 线程编码。
+     */
+    private record Captured(String world, int x, int y, int z, UUID playerId, ItemStack blueprint, int currentPhase,
+            int maxPhases, double qualityScore, List<Integer> materialStars, List<Double> qteScores, ItemStack ingot,
+            String recipeId) {
+
+        static Captured of(ForgingSession session) {
+            Location loc = session.getLocation();
+            ItemStack blueprint = session.getTargetBlueprint();
+            ItemStack ingot = session.getCurrentIngot();
+            return new Captured(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ(),
+                    session.getPlayerId(),
+                    blueprint != null ? blueprint.clone() : null,
+                    session.getCurrentPhase(), session.getMaxPhases(), session.getQualityScore(),
+                    List.copyOf(session.getMaterialStars()), List.copyOf(session.getQteScores()),
+                    ingot != null ? ingot.clone() : null,
+                    session.getActiveRecipeId());
+        }
+
+        SessionRecord encode() {
+            return new SessionRecord(world, x, y, z, playerId != null ? playerId.toString() : null,
+                    encodeItem(blueprint), currentPhase, maxPhases, qualityScore, materialStars, qteScores,
+                    encodeItem(ingot), recipeId);
+        }
+    }
+
+    AltarSessionJournal(StarryForge plugin, File snapshotFile) {
+        this.plugin = plugin;
+        this.snapshotFile = snapshotFile;
+        this.journalFile = new File(snapshotFile.getParentFile(), "altar_sessions.journal");
+    }
+
+    // ===== 主线程 API =====
+
+    /**
+     * 读取快照并回放日志，返回当前所有会话记录。仅在启动时同步调用。
+     */
+    List<SessionRecord> load() {
+        Map<String, SessionRecord> records = new LinkedHashMap<>();
+
+        if (snapshotFile.exists()) {
+            YamlConfiguration config = YamlConfiguration.loadConfiguration(snapshotFile);
+            ConfigurationSection sessionsSection = config.getConfigurationSection("sessions");
+            if (sessionsSection != null) {
+                for (String key : sessionsSection.getKeys(false)) {
+                    ConfigurationSection s = sessionsSection.getConfigurationSection(key);
+                    if (s == null || s.getString("world") == null)
+                        continue;
+                    SessionRecord record = fromYaml(s);
+                    records.put(record.key(), record);
+                }
+            }
+        }
+
+        if (journalFile.exists()) {
+            int replayed = 0;
+            try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty())
+                        continue;
+                    try {
+                        applyLine(records, line);
+                        replayed++;
+                    } catch (RuntimeException e) {
+                        // 崩溃时可能留下半行，跳过即可
+                        plugin.getLogger().warning("[Forging] Skipping malformed journal record.");
+                    }
+                }
+            } catch (IOException e) {
+                plugin.getLogger().severe("[Forging] Failed to read altar session journal!");
+                e.printStackTrace();
+            }
+            LogUtil.debug("[Forging] Replayed " + replayed + " altar journal record(s).");
+        }
+
+        return new ArrayList<>(records.values());
+    }
+
+    /**
+     * 追加一条会话状态记录。
+     */
+    void put(ForgingSession session) {
+        Captured captured = Captured.of(session);
+        io.execute(() -> append(captured.encode()));
+    }
+
+    /**
+     * 追加一条删除记录。
+     */
+    void delete(Location loc) {
+        String key = SessionRecord.key(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+        io.execute(() -> {
+            state.remove(key);
+            writeLine("D" + SEP + key);
+        });
+    }
+
+    /**
+     * 以给定会话集合重写快照并清空日志。
+     */
+    void rewrite(Collection<ForgingSession> sessions) {
+        List<Captured> captured = capture(sessions);
+        io.execute(() -> {
+            state.clear();
+            for (Captured c : captured) {
+                SessionRecord record = c.encode();
+                state.put(record.key(), record);
+            }
+            compact();
+        });
+    }
+
+    /**
+     * 写入最终快照并关闭 I/O 线程，阻塞直到完成。
+     */
+    void close(Collection<ForgingSession> sessions) {
+        rewrite(sessions);
+        io.shutdown();
+        try {
+            if (!io.awaitTermination(10, TimeUnit.SECONDS)) {
+                plugin.getLogger().severe("[Forging] Timed out while flushing altar session journal!");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<Captured> capture(Collection<ForgingSession> sessions) {
+        List<Captured> captured = new ArrayList<>();
+        for (ForgingSession session : sessions) {
+            if (session.hasBlueprint()) {
+                captured.add(Captured.of(session));
+            }
+        }
+        return captured;
+    }
+
+    // ===== I/O 线程 =====
+
+    private void append(SessionRecord record) {
+        state.put(record.key(), record);
+        writeLine(toLine(record));
+    }
+
+    private void writeLine(String line) {
+        try {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(journalFile.toPath(), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            writer.write(line);
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            plugin.getLogger().severe("[Forging] Failed to append altar session journal!");
+            e.printStackTrace();
+        }
+
+        if (++appendedSinceCompact >= COMPACT_THRESHOLD) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        YamlConfiguration config = new YamlConfiguration();
+        int index = 0;
+        for (SessionRecord record : state.values()) {
+            toYaml(config, "sessions.session_" + index, record);
+            index++;
+        }
+
+        try {
+            closeWriter();
+            File tmp = new File(snapshotFile.getParentFile(), snapshotFile.getName() + ".tmp");
+            config.save(tmp);
+            Files.move(tmp.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(journalFile.toPath());
+            appendedSinceCompact = 0;
+            LogUtil.debug("[Forging] Compacted altar journal into snapshot (" + index + " session(s)).");
+        } catch (IOException e) {
+            plugin.getLogger().severe("[Forging] Failed to compact altar session journal!");
+            e.printStackTrace();
+        }
+    }
+
+    private void closeWriter() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    // ===== 编码 =====
+
+    private static String encodeItem(ItemStack item) {
+        if (item == null)
+            return null;
+        try {
+            // 单行 Base64 (二进制格式)，日志记录必须保持单行
+            return SerializationUtils.itemToString(item);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private static String toLine(SessionRecord r) {
+        return String.join(SEP,
+                "P", r.key(),
+                nullToEmpty(r.playerId()),
+                String.valueOf(r.currentPhase()),
+                String.valueOf(r.maxPhases()),
+                String.valueOf(r.qualityScore()),
+                joinList(r.materialStars()),
+                joinList(r.qteScores()),
+                nullToEmpty(r.recipeId()),
+                nullToEmpty(r.blueprint()),
+                nullToEmpty(r.ingot()));
+    }
+
+    private static void applyLine(Map<String, SessionRecord> records, String line) {
+        String[] parts = line.split(SEP, -1);
+        String[] key = parts[1].split(":");
+        // 世界名可能包含 ':'，坐标取最后三段
+        int n = key.length;
+        String world = String.join(":", java.util.Arrays.copyOf(key, n - 3));
+        int x = Integer.parseInt(key[n - 3]);
+        int y = Integer.parseInt(key[n - 2]);
+        int z = Integer.parseInt(key[n - 1]);
+
+        switch (parts[0]) {
+            case "D" -> records.remove(SessionRecord.key(world, x, y, z));
+            case "P" -> {
+                List<Integer> stars = new ArrayList<>();
+                for (String s : parts[6].split(",")) {
+                    if (!s.isEmpty())
+                        stars.add(Integer.parseInt(s));
+                }
+                List<Double> scores = new ArrayList<>();
+                for (String s : parts[7].split(",")) {
+                    if (!s.isEmpty())
+                        scores.add(Double.parseDouble(s));
+                }
+                SessionRecord record = new SessionRecord(world, x, y, z, emptyToNull(parts[2]),
+                        emptyToNull(parts[9]), Integer.parseInt(parts[3]), Integer.parseInt(parts[4]),
+                        Double.parseDouble(parts[5]), stars, scores, emptyToNull(parts[10]),
+                        emptyToNull(parts[8]));
+                records.put(record.key(), record);
+            }
+            default -> throw new IllegalArgumentException("Unknown journal record: " + parts[0]);
+        }
+    }
+
+    private static SessionRecord fromYaml(ConfigurationSection s) {
+        return new SessionRecord(
+                s.getString("world"), s.getInt("x"), s.getInt("y"), s.getInt("z"),
+                s.getString("player_id"),
+                s.getString("blueprint"),
+                s.getInt("current_phase", 0),
+                s.getInt("max_phases", 0),
+                s.getDouble("quality_score", 0.0),
+                s.getIntegerList("material_stars"),
+                s.getDoubleList("qte_scores"),
+                s.getString("current_ingot"),
+                s.getString("recipe_id"));
+    }
+
+    private static void toYaml(YamlConfiguration config, String key, SessionRecord r) {
+        // 保存位置
+        config.set(key + ".world", r.world());
+        config.set(key + ".x", r.x());
+        config.set(key + ".y", r.y());
+        config.set(key + ".z", r.z());
+        // 保存玩家 ID
+        if (r.playerId() != null) {
+            config.set(key + ".player_id", r.playerId());
+        }
+        // 保存蓝图
+        if (r.blueprint() != null) {
+            config.set(key + ".blueprint", r.blueprint());
+        }
+        // 保存锻造进度
+        config.set(key + ".current_phase", r.currentPhase());
+        config.set(key + ".max_phases", r.maxPhases());
+        config.set(key + ".quality_score", r.qualityScore());
+        config.set(key + ".material_stars", r.materialStars());
+        config.set(key + ".qte_scores", r.qteScores());
+        // 保存当前材料和配方
+        if (r.ingot() != null) {
+            config.set(key + ".current_ingot", r.ingot());
+        }
+        if (r.recipeId() != null) {
+            config.set(key + ".recipe_id", r.recipeId());
+        }
+    }
+
+    private static String joinList(List<? extends Number> values) {
+        StringBuilder sb = new StringBuilder();
+        for (Number value : values) {
+            if (sb.length() > 0)
+                sb.append(',');
+            sb.append(value);
+        }
+        return sb.toString();
+    }
+
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+
+    private static String emptyToNull(String s) {
+        return s.isEmpty() ? null : s;
+    }
+}
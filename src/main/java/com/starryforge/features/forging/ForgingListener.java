@@ -151,7 +151,7 @@ public class ForgingListener implements Listener {
                 sendMessage(player, "forging.process.busy"); // Need to add this key or use raw message
                 return;
             }
-            ForgingRecipeManager.ForgingRecipe recipe = recipeManager.getRecipeByInput(item);
+            ForgingRecipeManager.ForgingRecipe recipe = recipeManager.getRecipeByInput(item, session.getTargetId());
             if (recipe != null) {
                 handleMaterialPlacement(player, session, item, recipe);
             }
@@ -220,8 +220,7 @@ public class ForgingListener implements Listener {
         long now = System.currentTimeMillis();
         Long lastAttempt = retrieveConfirmTimestamps.get(playerId);
 
-        long RETRIEVE_CONFIRM_TIMEOUT_MS = plugin.getConfigManager()
-                .getInt("machines.astral_altar.settings.confirm_timeout_ms", 5000);
+        long RETRIEVE_CONFIRM_TIMEOUT_MS = plugin.getConfigManager().getSettings().forging().confirmTimeoutMs();
 
         if (lastAttempt != null && (now - lastAttempt) < RETRIEVE_CONFIRM_TIMEOUT_MS) {
             // 确认窗口内，执行取出
@@ -267,7 +266,7 @@ public class ForgingListener implements Listener {
         if (session == null || !session.hasBlueprint()) {
             key = "forging.anvil.no_blueprint";
         } else if (session.isForging()) {
-            String msg = plugin.getConfigManager().getMessage("forging.anvil.in_progress")
+            String msg = plugin.getConfigManager().getMessage(player, "forging.anvil.in_progress")
                     .replace("{phase}", String.valueOf(session.getCurrentPhase()))
                     .replace("{max_phase}", String.valueOf(session.getMaxPhases()))
                     .replace("{score}", String.format("%.1f", session.getQualityScore()));
@@ -276,14 +275,14 @@ public class ForgingListener implements Listener {
         } else {
             key = "forging.anvil.empty_hand_hint";
         }
-        player.sendActionBar(mm.deserialize(plugin.getConfigManager().getMessage(key)));
+        player.sendActionBar(plugin.getConfigManager().getMessageComponent(player, key));
     }
 
     private void handleMaterialPlacement(Player player, ForgingSession session, ItemStack item,
             ForgingRecipeManager.ForgingRecipe recipe) {
-        double temp = PDCManager.getTemperature(item);
+        double temp = plugin.getThermodynamicsManager().getTemperature(item);
         if (temp < recipe.getMinTemperature()) {
-            String msg = plugin.getConfigManager().getMessage("forging.material.temp_low")
+            String msg = plugin.getConfigManager().getMessage(player, "forging.material.temp_low")
                     .replace("{required}", String.valueOf(recipe.getMinTemperature()))
                     .replace("{current}", String.format("%.0f", temp));
             player.sendMessage(mm.deserialize(msg));
@@ -292,7 +291,7 @@ public class ForgingListener implements Listener {
 
         String blueprintTarget = session.getTargetId();
         if (blueprintTarget != null && !blueprintTarget.equals(recipe.getResultItem())) {
-            String msg = plugin.getConfigManager().getMessage("forging.material.invalid_target")
+            String msg = plugin.getConfigManager().getMessage(player, "forging.material.invalid_target")
                     .replace("{item}", blueprintTarget);
             player.sendMessage(mm.deserialize(msg));
             return;
@@ -307,6 +306,6 @@ public class ForgingListener implements Listener {
     }
 
     private void sendMessage(Player player, String key) {
-        player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage(key)));
+        player.sendMessage(plugin.getConfigManager().getMessageComponent(player, key));
     }
 }
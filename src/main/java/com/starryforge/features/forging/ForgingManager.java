@@ -5,103 +5,81 @@ import com.starryforge.utils.SerializationUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
-import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.event.Listener;
 import org.bukkit.inventory.ItemStack;
 
 import java.io.File;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * 锻造会话管理器
  * <p>
- * 使用文件持久化存储会话数据，因为 SMITHING_TABLE 不是 TileEntity，无法使用 PDC
+ * 使用文件持久化存储会话数据，因为 SMITHING_TABLE 不是 TileEntity，无法使用 PDC。
+ * 变更通过 {@link AltarSessionJournal} 异步追加写入，并定期压缩为快照。
  */
 public class ForgingManager implements Listener {
 
     private final StarryForge plugin;
     private final Map<Location, ForgingSession> sessions = new HashMap<>();
-    private final File dataFile;
+    private final AltarSessionJournal journal;
+
+    // 等待写入日志的会话位置 (合并同一秒内的多次 markDirty)
+    private final Set<Location> dirtySessions = new LinkedHashSet<>();
+    private boolean flushScheduled = false;
 
     public ForgingManager(StarryForge plugin) {
         this.plugin = plugin;
-        this.dataFile = new File(plugin.getDataFolder(), "altar_sessions.yml");
+        this.journal = new AltarSessionJournal(plugin, new File(plugin.getDataFolder(), "altar_sessions.yml"));
         loadSessions();
         startTickTask();
     }
 
     /**
-     * 从文件加载所有会话
+     * 从快照和日志加载所有会话
      */
     private void loadSessions() {
         sessions.clear();
 
-        if (!dataFile.exists()) {
-            return;
-        }
-
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(dataFile);
-        ConfigurationSection sessionsSection = config.getConfigurationSection("sessions");
-
-        if (sessionsSection == null) {
-            return;
-        }
-
         int restoredCount = 0;
-        for (String key : sessionsSection.getKeys(false)) {
+        for (AltarSessionJournal.SessionRecord s : journal.load()) {
             try {
-                ConfigurationSection s = sessionsSection.getConfigurationSection(key);
-                if (s == null) continue;
-
                 // 解析位置
-                String worldName = s.getString("world");
+                String worldName = s.world();
                 World world = worldName != null ? Bukkit.getWorld(worldName) : null;
                 if (world == null) {
                     plugin.getLogger().warning("[Forging] World not found: " + worldName + ", skipping session.");
                     continue;
                 }
 
-                int x = s.getInt("x");
-                int y = s.getInt("y");
-                int z = s.getInt("z");
-                Location loc = new Location(world, x, y, z);
+                Location loc = new Location(world, s.x(), s.y(), s.z());
 
                 // 解析玩家 ID
-                String playerIdStr = s.getString("player_id");
-                UUID playerId = playerIdStr != null ? UUID.fromString(playerIdStr) : null;
+                UUID playerId = s.playerId() != null ? UUID.fromString(s.playerId()) : null;
 
                 // 创建会话
                 ForgingSession session = new ForgingSession(loc, playerId);
 
                 // 加载蓝图
-                String blueprintData = s.getString("blueprint");
-                if (blueprintData != null) {
-                    ItemStack blueprint = SerializationUtils.itemFromBase64(blueprintData);
+                if (s.blueprint() != null) {
+                    ItemStack blueprint = SerializationUtils.itemFromString(s.blueprint());
                     session.restoreBlueprint(blueprint);
                 }
 
                 // 加载锻造进度
-                session.restoreProgress(
-                    s.getInt("current_phase", 0),
-                    s.getInt("max_phases", 0),
-                    s.getDouble("quality_score", 0.0)
-                );
-                session.restoreLists(
-                    s.getIntegerList("material_stars"),
-                    s.getDoubleList("qte_scores")
-                );
+                session.restoreProgress(s.currentPhase(), s.maxPhases(), s.qualityScore());
+                session.restoreLists(s.materialStars(), s.qteScores());
 
                 // 加载当前材料和配方
-                String ingotData = s.getString("current_ingot");
                 ItemStack ingot = null;
-                if (ingotData != null) {
-                    ingot = SerializationUtils.itemFromBase64(ingotData);
+                if (s.ingot() != null) {
+                    ingot = SerializationUtils.itemFromString(s.ingot());
                 }
-                
-                String recipeId = s.getString("recipe_id");
+
+                String recipeId = s.recipeId();
                 // 即使 ingot 为空，只要有 recipeId 也需要恢复状态（处于阶段之间）
                 if (recipeId != null || ingot != null) {
                     session.restoreForging(ingot, recipeId);
@@ -113,7 +91,7 @@ public class ForgingManager implements Listener {
                 sessions.put(loc, session);
                 restoredCount++;
             } catch (Exception e) {
-                plugin.getLogger().warning("[Forging] Failed to restore session: " + key);
+                plugin.getLogger().warning("[Forging] Failed to restore session: " + s.key());
                 e.printStackTrace();
             }
         }
@@ -121,6 +99,9 @@ public class ForgingManager implements Listener {
         if (restoredCount > 0) {
             plugin.getLogger().info("[Forging] Restored " + restoredCount + " altar session(s) from file.");
         }
+
+        // 回放完成后压缩为新快照
+        journal.rewrite(sessions.values());
     }
 
     public ForgingSession getSession(UUID playerId) {
@@ -133,76 +114,21 @@ public class ForgingManager implements Listener {
     }
 
     /**
-     * 保存所有会话到文件
+     * 将待写入的会话追加到日志
      */
-    public void saveSessions() {
-        YamlConfiguration config = new YamlConfiguration();
-
-        int index = 0;
-        for (Map.Entry<Location, ForgingSession> entry : sessions.entrySet()) {
-            Location loc = entry.getKey();
-            ForgingSession session = entry.getValue();
-
-            if (!session.hasBlueprint()) {
-                continue; // 跳过没有蓝图的会话
-            }
-
-            String key = "sessions.session_" + index;
-
-            // 保存位置
-            config.set(key + ".world", loc.getWorld().getName());
-            config.set(key + ".x", loc.getBlockX());
-            config.set(key + ".y", loc.getBlockY());
-            config.set(key + ".z", loc.getBlockZ());
-
-            // 保存玩家 ID
-            if (session.getPlayerId() != null) {
-                config.set(key + ".player_id", session.getPlayerId().toString());
-            }
-
-            // 保存蓝图
-            ItemStack blueprint = session.getTargetBlueprint();
-            if (blueprint != null) {
-                try {
-                    config.set(key + ".blueprint", SerializationUtils.itemToBase64(blueprint));
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            }
-
-            // 保存锻造进度
-            config.set(key + ".current_phase", session.getCurrentPhase());
-            config.set(key + ".max_phases", session.getMaxPhases());
-            config.set(key + ".quality_score", session.getQualityScore());
-            config.set(key + ".material_stars", session.getMaterialStars());
-            config.set(key + ".qte_scores", session.getQteScores());
-
-            // 保存当前材料和配方
-            ItemStack ingot = session.getCurrentIngot();
-            if (ingot != null) {
-                try {
-                    config.set(key + ".current_ingot", SerializationUtils.itemToBase64(ingot));
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            }
-
-            String recipeId = session.getActiveRecipeId();
-            if (recipeId != null) {
-                config.set(key + ".recipe_id", recipeId);
-            }
-
-            index++;
+    private void flushDirty() {
+        flushScheduled = false;
+        for (Location loc : dirtySessions) {
+            writeSession(loc, sessions.get(loc));
         }
+        dirtySessions.clear();
+    }
 
-        try {
-            config.save(dataFile);
-            if (index > 0) {
-                plugin.getLogger().info("[Forging] Saved " + index + " altar session(s) to file.");
-            }
-        } catch (Exception e) {
-            plugin.getLogger().severe("[Forging] Failed to save sessions!");
-            e.printStackTrace();
+    private void writeSession(Location loc, ForgingSession session) {
+        if (session != null && session.hasBlueprint()) {
+            journal.put(session);
+        } else {
+            journal.delete(loc); // 跳过没有蓝图的会话
         }
     }
 
@@ -214,16 +140,23 @@ public class ForgingManager implements Listener {
                     cancel();
                     return;
                 }
-                for (ForgingSession session : sessions.values()) {
-                    session.tick();
+                com.starryforge.features.core.PerfMonitor perf = plugin.getPerfMonitor();
+                perf.begin(com.starryforge.features.core.PerfMonitor.Section.FORGING);
+                try {
+                    for (ForgingSession session : sessions.values()) {
+                        session.tick();
+                    }
+                } finally {
+                    perf.end(com.starryforge.features.core.PerfMonitor.Section.FORGING);
                 }
             }
         }.runTaskTimer(plugin, 1L, 1L);
     }
 
     public void shutdown() {
-        // 保存所有会话到文件
-        saveSessions();
+        // 写入最终快照并等待日志线程结束
+        dirtySessions.clear();
+        journal.close(sessions.values());
 
         // 清理视觉效果
         for (ForgingSession session : sessions.values()) {
@@ -248,8 +181,9 @@ public class ForgingManager implements Listener {
             sessions.get(loc).cleanup();
         }
         sessions.put(loc, session);
-        // 立即保存以防崩溃
-        saveSessions();
+        // 立即写入日志以防崩溃
+        dirtySessions.remove(loc);
+        writeSession(loc, session);
     }
 
     public void endSession(Location loc) {
@@ -258,7 +192,8 @@ public class ForgingManager implements Listener {
             session.cleanup();
         }
         // 更新持久化文件
-        saveSessions();
+        dirtySessions.remove(loc);
+        journal.delete(loc);
     }
 
     /**
@@ -271,8 +206,12 @@ public class ForgingManager implements Listener {
     /**
      * 通知管理器会话状态已变化，需要保存
      */
-    public void markDirty() {
-        // 延迟保存，避免频繁写入
-        plugin.getServer().getScheduler().runTaskLater(plugin, this::saveSessions, 20L);
+    public void markDirty(ForgingSession session) {
+        dirtySessions.add(session.getLocation());
+        // 延迟保存，同一秒内的多次变更只写入一次
+        if (!flushScheduled) {
+            flushScheduled = true;
+            plugin.getServer().getScheduler().runTaskLater(plugin, this::flushDirty, 20L);
+        }
     }
 }
@@ -8,13 +8,45 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.inventory.ItemStack;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 public class ForgingRecipeManager {
 
     private final StarryForge plugin;
-    private final Map<String, ForgingRecipe> recipes = new HashMap<>();
+    // 配方及其索引，加载完成后整体替换，读取方不会看到加载到一半的状态
+    private volatile RecipeIndex index = RecipeIndex.build(new LinkedHashMap<>());
+
+    /**
+     * 不可变的配方索引。
+     * byInput 按输入物品 ID 分组，byOutput 按产物 ID (大写) 分组，组内保持配置顺序。
+     */
+    private record RecipeIndex(
+            Map<String, ForgingRecipe> byId,
+            Map<String, List<ForgingRecipe>> byInput,
+            Map<String, List<ForgingRecipe>> byOutput) {
+
+        static RecipeIndex build(LinkedHashMap<String, ForgingRecipe> recipes) {
+            Map<String, List<ForgingRecipe>> byInput = new HashMap<>();
+            Map<String, List<ForgingRecipe>> byOutput = new HashMap<>();
+            for (ForgingRecipe r : recipes.values()) {
+                if (r.getInputItem() != null) {
+                    byInput.computeIfAbsent(r.getInputItem(), k -> new ArrayList<>()).add(r);
+                }
+                if (r.getResultItem() != null) {
+                    byOutput.computeIfAbsent(r.getResultItem().toUpperCase(Locale.ROOT), k -> new ArrayList<>()).add(r);
+                }
+            }
+            byInput.replaceAll((k, v) -> List.copyOf(v));
+            byOutput.replaceAll((k, v) -> List.copyOf(v));
+            return new RecipeIndex(Collections.unmodifiableMap(recipes), byInput, byOutput);
+        }
+    }
 
     public ForgingRecipeManager(StarryForge plugin) {
         this.plugin = plugin;
@@ -30,7 +62,7 @@ public class ForgingRecipeManager {
         YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
         ConfigurationSection section = config.getConfigurationSection("recipes");
 
-        recipes.clear();
+        LinkedHashMap<String, ForgingRecipe> recipes = new LinkedHashMap<>();
         if (section != null) {
             for (String key : section.getKeys(false)) {
                 ConfigurationSection s = section.getConfigurationSection(key);
@@ -50,6 +82,7 @@ public class ForgingRecipeManager {
                 recipes.put(key, recipe);
             }
         }
+        index = RecipeIndex.build(recipes);
         plugin.getLogger().info("[Forging] Loaded " + recipes.size() + " recipes.");
     }
 
@@ -58,26 +91,51 @@ public class ForgingRecipeManager {
     }
 
     public ForgingRecipe getRecipeByInput(ItemStack item) {
+        return getRecipeByInput(item, null);
+    }
+
+    /**
+     * 按输入物品查找配方。同一输入有多个配方时优先返回产物为 targetId (蓝图目标) 的配方，
+     * 没有匹配目标的配方时返回配置中第一个，由调用方提示目标不符。
+     */
+    public ForgingRecipe getRecipeByInput(ItemStack item, String targetId) {
         if (item == null)
             return null;
         String id = PDCManager.getString(item, Keys.ITEM_ID_KEY);
         if (id == null)
             return null; // Or verify vanilla material if id is null?
 
-        for (ForgingRecipe r : recipes.values()) {
-            if (r.getInputItem().equals(id)) {
-                return r;
+        List<ForgingRecipe> candidates = index.byInput().get(id);
+        if (candidates == null)
+            return null;
+        if (targetId != null) {
+            for (ForgingRecipe r : candidates) {
+                if (targetId.equals(r.getResultItem())) {
+                    return r;
+                }
             }
         }
-        return null;
+        return candidates.get(0);
+    }
+
+    /**
+     * 产出指定物品 (不区分大小写) 的所有配方，供配方展示使用。
+     */
+    public List<ForgingRecipe> getRecipesByOutput(String resultId) {
+        if (resultId == null)
+            return List.of();
+        return index.byOutput().getOrDefault(resultId.toUpperCase(Locale.ROOT), List.of());
     }
 
     public ForgingRecipe getRecipeById(String id) {
-        return recipes.get(id);
+        return index.byId().get(id);
     }
 
+    /**
+     * 只读视图，按配置顺序排列
+     */
     public Map<String, ForgingRecipe> getRecipes() {
-        return recipes;
+        return index.byId();
     }
 
     public static class ForgingRecipe {
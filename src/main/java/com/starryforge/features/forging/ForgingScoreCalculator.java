@@ -57,8 +57,8 @@ public class ForgingScoreCalculator {
         double baseMod = avgQteScore - 0.5;
 
         ConfigManager config = StarryForge.getInstance().getConfigManager();
-        double maxBonusBase = config.getDouble("machines.astral_altar.quality.max_bonus_percent", 0.10);
-        double penaltyBase = -config.getDouble("machines.astral_altar.quality.penalty_base", 0.50);
+        double maxBonusBase = config.getSettings().forging().maxBonusPercent();
+        double penaltyBase = -config.getSettings().forging().penaltyBase();
 
         double levelBonus = player != null ? calculateLevelBonus(player) : 0.0;
         double maxBonus = maxBonusBase + levelBonus;
@@ -5,6 +5,7 @@ import com.starryforge.StarryForge;
 import com.starryforge.features.core.PDCManager;
 import com.starryforge.features.forging.visual.ForgingVisuals;
 import com.starryforge.utils.Keys;
+import com.starryforge.utils.HudText;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Location;
@@ -143,10 +144,10 @@ public class ForgingSession {
                     p.showTitle(net.kyori.adventure.title.Title.title(
                             MiniMessage.miniMessage()
                                     .deserialize(StarryForge.getInstance().getConfigManager()
-                                            .getMessage("forging.session.tutorial_title")),
+                                            .getMessage(p, "forging.session.tutorial_title")),
                             MiniMessage.miniMessage()
                                     .deserialize(StarryForge.getInstance().getConfigManager()
-                                            .getMessage("forging.session.tutorial_subtitle")),
+                                            .getMessage(p, "forging.session.tutorial_subtitle")),
                             net.kyori.adventure.title.Title.Times.times(java.time.Duration.ofMillis(500),
                                     java.time.Duration.ofMillis(4000), java.time.Duration.ofMillis(1000))));
                     p.getPersistentDataContainer().set(tutorialKey, PersistentDataType.BYTE, (byte) 1);
@@ -155,10 +156,10 @@ public class ForgingSession {
                     p.showTitle(net.kyori.adventure.title.Title.title(
                             MiniMessage.miniMessage()
                                     .deserialize(StarryForge.getInstance().getConfigManager()
-                                            .getMessage("forging.session.start_title")),
+                                            .getMessage(p, "forging.session.start_title")),
                             MiniMessage.miniMessage()
                                     .deserialize(StarryForge.getInstance().getConfigManager()
-                                            .getMessage("forging.session.start_subtitle")),
+                                            .getMessage(p, "forging.session.start_subtitle")),
                             net.kyori.adventure.title.Title.Times.times(java.time.Duration.ofMillis(200),
                                     java.time.Duration.ofMillis(1500), java.time.Duration.ofMillis(500))));
                 }
@@ -176,7 +177,7 @@ public class ForgingSession {
                         Component.empty(),
                         MiniMessage.miniMessage()
                                 .deserialize(StarryForge.getInstance().getConfigManager()
-                                        .getMessage("forging.session.phase_title")
+                                        .getMessage(p, "forging.session.phase_title")
                                         .replace("{phase}", String.valueOf(roundsCompleted + 1))),
                         net.kyori.adventure.title.Title.Times.times(java.time.Duration.ofMillis(100),
                                 java.time.Duration.ofMillis(1000), java.time.Duration.ofMillis(200))));
@@ -186,13 +187,13 @@ public class ForgingSession {
         // Add Material Star
         int star = 0;
         if (ingot.hasItemMeta()) {
-            Integer s = ingot.getItemMeta().getPersistentDataContainer().get(NexusKeys.STAR_RATING,
+            Integer s = ingot.getPersistentDataContainer().get(NexusKeys.STAR_RATING,
                     PersistentDataType.INTEGER);
             if (s != null) {
                 star = s;
             } else {
                 // Fallback: Check legacy key just in case
-                Integer legacy = ingot.getItemMeta().getPersistentDataContainer().get(
+                Integer legacy = ingot.getPersistentDataContainer().get(
                         new NamespacedKey(StarryForge.getInstance(), "nexus_star_rating"), PersistentDataType.INTEGER);
                 if (legacy != null)
                     star = legacy;
@@ -203,7 +204,7 @@ public class ForgingSession {
         Player p = StarryForge.getInstance().getServer().getPlayer(playerId);
         if (p != null) {
             p.sendMessage(MiniMessage.miniMessage().deserialize(StarryForge.getInstance().getConfigManager()
-                    .getMessage("forging.session.material_input").replace("{star}", String.valueOf(star))));
+                    .getMessage(p, "forging.session.material_input").replace("{star}", String.valueOf(star))));
         }
 
         // Start Round
@@ -220,7 +221,7 @@ public class ForgingSession {
         }
 
         this.hitNodes.clear(); // Reset hit nodes for new round
-        StarryForge.getInstance().getForgingManager().markDirty();
+        StarryForge.getInstance().getForgingManager().markDirty(this);
     }
 
     public void tick() {
@@ -253,11 +254,9 @@ public class ForgingSession {
                         int filled = (int) (progress * bar.length());
                         String progressStr = "<green>" + bar.substring(0, filled) + "<gray>" + bar.substring(filled);
 
-                        p.sendActionBar(MiniMessage.miniMessage().deserialize(
-                                StarryForge.getInstance().getConfigManager()
-                                        .getMessage("forging.session.actionbar_timer")
-                                        .replace("{time}", timeStr)
-                                        .replace("{progress}", progressStr)));
+                        p.sendActionBar(HudText.template(StarryForge.getInstance().getConfigManager()
+                                .getMessage(p, "forging.session.actionbar_timer"))
+                                .render("time", timeStr, "progress", progressStr));
                     }
                 }
             }
@@ -270,8 +269,7 @@ public class ForgingSession {
 
         // Validate Player
         if (!player.getUniqueId().equals(playerId)) {
-            player.sendMessage(MiniMessage.miniMessage()
-                    .deserialize(StarryForge.getInstance().getConfigManager().getMessage("forging.session.not_owner")));
+            player.sendMessage(StarryForge.getInstance().getConfigManager().getMessageComponent(player, "forging.session.not_owner"));
             return;
         }
 
@@ -279,8 +277,7 @@ public class ForgingSession {
         ItemStack tool = player.getInventory().getItemInMainHand();
         int hammerTier = getHammerTier(tool);
         if (hammerTier <= 0) {
-            player.sendMessage(MiniMessage.miniMessage().deserialize(
-                    StarryForge.getInstance().getConfigManager().getMessage("forging.session.need_hammer")));
+            player.sendMessage(StarryForge.getInstance().getConfigManager().getMessageComponent(player, "forging.session.need_hammer"));
             return;
         }
 
@@ -291,8 +288,8 @@ public class ForgingSession {
         List<Location> nodes = visuals.getNodeLocations();
         int bestIndex = -1;
         com.starryforge.features.core.ConfigManager config = StarryForge.getInstance().getConfigManager();
-        double bestDot = config.getDouble("machines.astral_altar.process.aim_threshold", 0.96);
-        double maxDist = config.getDouble("machines.astral_altar.settings.interaction_distance", 6.0);
+        double bestDot = config.getSettings().forging().aimThreshold();
+        double maxDist = config.getSettings().forging().interactionDistance();
 
         // 2. Check Interference Hits (Void Rifts)
         List<Location> badNodes = visuals.getInterferenceLocations();
@@ -375,8 +372,7 @@ public class ForgingSession {
 
                 if (elapsed <= timeLimit) {
                     // Perfect (Within Time)
-                    player.sendMessage(MiniMessage.miniMessage().deserialize(
-                            StarryForge.getInstance().getConfigManager().getMessage("forging.session.perfect_hit")));
+                    player.sendMessage(StarryForge.getInstance().getConfigManager().getMessageComponent(player, "forging.session.perfect_hit"));
                 } else {
                     // Overtime Penalty
                     double overtimeSec = (elapsed - timeLimit) / 1000.0;
@@ -420,7 +416,7 @@ public class ForgingSession {
             updateIdleStatus();
         }
 
-        StarryForge.getInstance().getForgingManager().markDirty();
+        StarryForge.getInstance().getForgingManager().markDirty(this);
     }
 
     private boolean isCompleted = false;
@@ -455,7 +451,7 @@ public class ForgingSession {
 
         if (player != null) {
             double rawFinalStar = avgMaterialStar * (1.0 + modifier);
-            String msg = plugin.getConfigManager().getMessage("forging.process.finished")
+            String msg = plugin.getConfigManager().getMessage(player, "forging.process.finished")
                     .replace("{score}", String.format("%.1f", rawFinalStar)); // Reuse score placeholder for star
             player.sendMessage(MiniMessage.miniMessage().deserialize(msg));
             player.sendMessage(MiniMessage.miniMessage().deserialize(
@@ -504,7 +500,7 @@ public class ForgingSession {
         }
 
         // Do NOT drop item or end session yet. Wait for player interaction.
-        StarryForge.getInstance().getForgingManager().markDirty();
+        StarryForge.getInstance().getForgingManager().markDirty(this);
     }
 
     private int getHammerTier(ItemStack item) {
@@ -370,7 +370,8 @@ public class BlueprintSelectionGUI implements Listener {
         player.getInventory().addItem(singleBlueprint).values()
                 .forEach(overflow -> player.getWorld().dropItemNaturally(player.getLocation(), overflow));
 
-        player.sendMessage(mm.deserialize(getMessage("forging.gui.written").replace("{item}", displayName)));
+        player.sendMessage(mm.deserialize(
+                plugin.getConfigManager().getMessage(player, "forging.gui.written").replace("{item}", displayName)));
         player.closeInventory();
         player.playSound(player.getLocation(), Sound.BLOCK_ENCHANTMENT_TABLE_USE, 1.0f, 1.0f);
     }
@@ -387,6 +388,6 @@ public class BlueprintSelectionGUI implements Listener {
     }
 
     private void sendMessage(Player player, String key) {
-        player.sendMessage(mm.deserialize(getMessage(key)));
+        player.sendMessage(plugin.getConfigManager().getMessageComponent(player, key));
     }
 }
@@ -67,10 +67,8 @@ public class ForgingVisuals {
     private double currentRotation = 0.0;
 
     public ForgingVisuals(Location anvilLocation, ItemStack displayItem) {
-        double holoY = StarryForge.getInstance().getConfigManager()
-                .getDouble("machines.astral_altar.visuals.hologram_offset_y", 1.5);
-        double constY = StarryForge.getInstance().getConfigManager()
-                .getDouble("machines.astral_altar.visuals.constellation_offset_y", 3.5);
+        double holoY = StarryForge.getInstance().getConfigManager().getSettings().forging().hologramOffsetY();
+        double constY = StarryForge.getInstance().getConfigManager().getSettings().forging().constellationOffsetY();
 
         this.hologramLocation = anvilLocation.clone().add(0.5, holoY, 0.5); // Floating above anvil
         this.center = anvilLocation.clone().add(0.5, constY, 0.5); // High up for sky aiming
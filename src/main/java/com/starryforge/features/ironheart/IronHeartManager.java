@@ -18,6 +18,9 @@ import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
@@ -25,9 +28,8 @@ import java.util.HashMap;
 import java.util.UUID;
 import java.util.logging.Level;
 
-public class IronHeartManager implements CommandExecutor {
+public class IronHeartManager implements CommandExecutor, Listener {
 
-    @SuppressWarnings("unused")
     private final StarryForge plugin;
     private final ComponentConfig componentConfig;
     private final BlueprintConfig blueprintConfig;
@@ -54,6 +56,7 @@ public class IronHeartManager implements CommandExecutor {
         this.fabricationService = new FabricationService(integrityValidator, statCalculator, componentConfig, blueprintConfig, scrapManager);
         
         plugin.getCommand("ih").setExecutor(this);
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
         
         registerIntegrations();
     }
@@ -72,6 +75,22 @@ public class IronHeartManager implements CommandExecutor {
         }
     }
 
+    /**
+     * Migrate legacy JSON weapon data to the binary format as players log in.
+     */
+    @EventHandler
+    public void onJoin(PlayerJoinEvent event) {
+        int migrated = 0;
+        for (ItemStack item : event.getPlayer().getInventory().getContents()) {
+            if (PDCAdapter.migrateLegacy(item)) {
+                migrated++;
+            }
+        }
+        if (migrated > 0) {
+            plugin.getLogger().info("Migrated " + migrated + " IronHeart weapon(s) to binary data for " + event.getPlayer().getName());
+        }
+    }
+
     public ComponentConfig getComponentConfig() {
         return componentConfig;
     }
@@ -3,6 +3,7 @@ package com.starryforge.features.ironheart.data;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.starryforge.features.ironheart.data.model.IronHeartWeapon;
+import io.papermc.paper.persistence.PersistentDataContainerView;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -11,11 +12,16 @@ import org.bukkit.persistence.PersistentDataType;
 
 public class PDCAdapter {
 
+    // Legacy format only: weapons written before the binary codec stored Gson JSON
     private static final Gson GSON = new GsonBuilder().create();
+    // STRING = legacy JSON, BYTE_ARRAY = WeaponCodec
     private static final NamespacedKey FORGE_DATA_KEY = new NamespacedKey("starfield", "forge_data");
+    // Plain header copies of uuid/revision so readers can identify a weapon without decoding
+    private static final NamespacedKey FORGE_UUID_KEY = new NamespacedKey("starfield", "forge_uuid");
+    private static final NamespacedKey FORGE_REVISION_KEY = new NamespacedKey("starfield", "forge_revision");
 
     /**
-     * Write IronHeartWeapon data to ItemStack PDC
+     * Write IronHeartWeapon data to ItemStack PDC (binary format)
      */
     public static void writeWeaponData(ItemStack item, IronHeartWeapon weapon) {
         if (item == null || weapon == null) return;
@@ -23,34 +29,86 @@ public class PDCAdapter {
         ItemMeta meta = item.getItemMeta();
         if (meta == null) return;
 
-        String json = GSON.toJson(weapon);
-        meta.getPersistentDataContainer().set(FORGE_DATA_KEY, PersistentDataType.STRING, json);
+        writeWeaponData(meta.getPersistentDataContainer(), weapon);
         item.setItemMeta(meta);
     }
 
+    private static void writeWeaponData(PersistentDataContainer pdc, IronHeartWeapon weapon) {
+        // Replaces a legacy JSON value under the same key
+        pdc.remove(FORGE_DATA_KEY);
+        pdc.set(FORGE_DATA_KEY, PersistentDataType.BYTE_ARRAY, WeaponCodec.encode(weapon));
+        if (weapon.uuid() != null) {
+            pdc.set(FORGE_UUID_KEY, PersistentDataType.STRING, weapon.uuid());
+            pdc.set(FORGE_REVISION_KEY, PersistentDataType.INTEGER, weapon.revision());
+        }
+    }
+
     /**
-     * Read IronHeartWeapon data from ItemStack PDC
+     * Read IronHeartWeapon data from ItemStack PDC (binary or legacy JSON)
      */
     public static IronHeartWeapon readWeaponData(ItemStack item) {
         if (item == null || !item.hasItemMeta()) return null;
+        return readWeaponData(item.getPersistentDataContainer());
+    }
 
-        PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
-        if (!pdc.has(FORGE_DATA_KEY, PersistentDataType.STRING)) return null;
-
-        String json = pdc.get(FORGE_DATA_KEY, PersistentDataType.STRING);
+    private static IronHeartWeapon readWeaponData(PersistentDataContainerView pdc) {
         try {
-            return GSON.fromJson(json, IronHeartWeapon.class);
+            // get() with the wrong type throws instead of returning null, so check the tag type first
+            if (pdc.has(FORGE_DATA_KEY, PersistentDataType.BYTE_ARRAY)) {
+                return WeaponCodec.decode(pdc.get(FORGE_DATA_KEY, PersistentDataType.BYTE_ARRAY));
+            }
+            if (pdc.has(FORGE_DATA_KEY, PersistentDataType.STRING)) {
+                return GSON.fromJson(pdc.get(FORGE_DATA_KEY, PersistentDataType.STRING), IronHeartWeapon.class);
+            }
         } catch (Exception e) {
             e.printStackTrace();
-            return null;
         }
+        return null;
+    }
+
+    /**
+     * Rewrite a legacy JSON weapon in the binary format.
+     *
+     * @return true if the item was migrated
+     */
+    public static boolean migrateLegacy(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return false;
+
+        ItemMeta meta = item.getItemMeta();
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+        if (!pdc.has(FORGE_DATA_KEY, PersistentDataType.STRING)) return false;
+
+        IronHeartWeapon weapon = readWeaponData(pdc);
+        if (weapon == null) return false;
+
+        writeWeaponData(pdc, weapon);
+        item.setItemMeta(meta);
+        return true;
     }
 
+    /**
+     * Read the weapon uuid + revision header without decoding the weapon.
+     * Returns null for items written before the header existed.
+     */
+    public static WeaponKey readWeaponKey(PersistentDataContainerView pdc) {
+        String uuid = pdc.get(FORGE_UUID_KEY, PersistentDataType.STRING);
+        Integer revision = pdc.get(FORGE_REVISION_KEY, PersistentDataType.INTEGER);
+        if (uuid == null || revision == null) return null;
+        return new WeaponKey(uuid, revision);
+    }
+
+    /**
+     * Weapon identity: a given uuid + revision always carries the same stats.
+     */
+    public record WeaponKey(String uuid, int revision) {}
+
     /**
      * Check if item is an IronHeart weapon
      */
     public static boolean isIronHeartWeapon(ItemStack item) {
         if (item == null || !item.hasItemMeta()) return false;
-        return item.getItemMeta().getPersistentDataContainer().has(FORGE_DATA_KEY, PersistentDataType.STRING);
+        PersistentDataContainerView pdc = item.getPersistentDataContainer();
+        return pdc.has(FORGE_DATA_KEY, PersistentDataType.BYTE_ARRAY)
+                || pdc.has(FORGE_DATA_KEY, PersistentDataType.STRING);
     }
 }
@@ -0,0 +1,161 @@
+package com.starryforge.features.ironheart.data;
+
+import com.starryforge.features.ironheart.data.model.IronHeartWeapon;
+import com.starryforge.features.ironheart.data.model.VeteranStats;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixed-layout binary encoding of {@link IronHeartWeapon}.
+ * <p>
+ * Layout (version 1): version byte, uuid, blueprintId, revision, tier, integrity,
+ * components, componentQualities, statsCache, history. Nullable values are prefixed
+ * with a presence flag; maps are prefixed with their size (-1 for null).
+ * Bump {@link #VERSION} and branch in {@link #decode} when the layout changes.
+ */
+public final class WeaponCodec {
+
+    public static final byte VERSION = 1;
+
+    private WeaponCodec() {
+    }
+
+    public static byte[] encode(IronHeartWeapon weapon) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeString(out, weapon.uuid());
+            writeString(out, weapon.blueprintId());
+            out.writeInt(weapon.revision());
+            out.writeInt(weapon.tier());
+
+            IronHeartWeapon.Integrity integrity = weapon.integrity();
+            out.writeBoolean(integrity != null);
+            if (integrity != null) {
+                out.writeInt(integrity.current());
+                out.writeInt(integrity.max());
+            }
+
+            Map<String, String> components = weapon.components();
+            out.writeInt(components == null ? -1 : components.size());
+            if (components != null) {
+                for (Map.Entry<String, String> e : components.entrySet()) {
+                    writeString(out, e.getKey());
+                    writeString(out, e.getValue());
+                }
+            }
+
+            Map<String, Integer> qualities = weapon.componentQualities();
+            out.writeInt(qualities == null ? -1 : qualities.size());
+            if (qualities != null) {
+                for (Map.Entry<String, Integer> e : qualities.entrySet()) {
+                    writeString(out, e.getKey());
+                    out.writeInt(e.getValue() == null ? 0 : e.getValue());
+                }
+            }
+
+            IronHeartWeapon.StatsCache stats = weapon.statsCache();
+            out.writeBoolean(stats != null);
+            if (stats != null) {
+                out.writeDouble(stats.damage());
+                out.writeDouble(stats.speed());
+                out.writeDouble(stats.reach());
+                out.writeDouble(stats.poiseDmg());
+            }
+
+            IronHeartWeapon.History history = weapon.history();
+            out.writeBoolean(history != null);
+            if (history != null) {
+                writeString(out, history.crafter());
+                out.writeLong(history.createdAt());
+                VeteranStats veteran = history.veteran();
+                out.writeBoolean(veteran != null);
+                if (veteran != null) {
+                    out.writeDouble(veteran.totalDamage());
+                    out.writeInt(veteran.killCount());
+                    out.writeInt(veteran.rank());
+                }
+            }
+        } catch (IOException e) {
+            // ByteArrayOutputStream does not throw
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode a weapon. Throws IOException for unknown versions or truncated data.
+     */
+    public static IronHeartWeapon decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported IronHeart weapon data version: " + version);
+            }
+            String uuid = readString(in);
+            String blueprintId = readString(in);
+            int revision = in.readInt();
+            int tier = in.readInt();
+
+            IronHeartWeapon.Integrity integrity = null;
+            if (in.readBoolean()) {
+                integrity = new IronHeartWeapon.Integrity(in.readInt(), in.readInt());
+            }
+
+            Map<String, String> components = null;
+            int componentCount = in.readInt();
+            if (componentCount >= 0) {
+                components = new HashMap<>();
+                for (int i = 0; i < componentCount; i++) {
+                    components.put(readString(in), readString(in));
+                }
+            }
+
+            Map<String, Integer> qualities = null;
+            int qualityCount = in.readInt();
+            if (qualityCount >= 0) {
+                qualities = new HashMap<>();
+                for (int i = 0; i < qualityCount; i++) {
+                    qualities.put(readString(in), in.readInt());
+                }
+            }
+
+            IronHeartWeapon.StatsCache stats = null;
+            if (in.readBoolean()) {
+                stats = new IronHeartWeapon.StatsCache(in.readDouble(), in.readDouble(), in.readDouble(),
+                        in.readDouble());
+            }
+
+            IronHeartWeapon.History history = null;
+            if (in.readBoolean()) {
+                String crafter = readString(in);
+                long createdAt = in.readLong();
+                VeteranStats veteran = null;
+                if (in.readBoolean()) {
+                    veteran = new VeteranStats(in.readDouble(), in.readInt(), in.readInt());
+                }
+                history = new IronHeartWeapon.History(crafter, createdAt, veteran);
+            }
+
+            return new IronHeartWeapon(uuid, blueprintId, revision, tier, integrity, components, qualities,
+                    stats, history);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -522,7 +522,7 @@ public class AssemblerGUI implements Listener {
                 session.setActiveBlueprintId(blueprintId);
                 render(inv, session);
                 
-                String msg = plugin.getConfigManager().getMessage("assembler.current_blueprint");
+                String msg = plugin.getConfigManager().getMessage(session.getPlayer(), "assembler.current_blueprint");
                 
                 String displayName = blueprintId;
                 // Try to resolve display name
@@ -625,7 +625,7 @@ public class AssemblerGUI implements Listener {
 
         String itemId = null;
         if (item.hasItemMeta()) {
-            itemId = item.getItemMeta().getPersistentDataContainer().get(NexusKeys.ITEM_ID, PersistentDataType.STRING);
+            itemId = item.getPersistentDataContainer().get(NexusKeys.ITEM_ID, PersistentDataType.STRING);
         }
 
         if ("assembly_table".equals(itemId)) {
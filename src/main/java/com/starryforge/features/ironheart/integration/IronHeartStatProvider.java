@@ -2,12 +2,33 @@ package com.starryforge.features.ironheart.integration;
 
 import com.nexuscore.rpg.stats.NexusStat;
 import com.nexuscore.rpg.provider.NexusStatProvider;
+import com.starryforge.StarryForge;
+import com.starryforge.features.core.PerfMonitor;
 import com.starryforge.features.ironheart.data.PDCAdapter;
 import com.starryforge.features.ironheart.data.model.IronHeartWeapon;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class IronHeartStatProvider implements NexusStatProvider {
 
+    // Bounded LRU of decoded stats, keyed by weapon uuid + revision.
+    // Any change to a weapon's stats bumps its revision, so entries never go stale.
+    private static final int CACHE_SIZE = 512;
+
+    private static final int DAMAGE = 0;
+    private static final int SPEED = 1;
+    private static final int REACH = 2;
+
+    private final Map<PDCAdapter.WeaponKey, double[]> statCache =
+            new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<PDCAdapter.WeaponKey, double[]> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            };
+
     @Override
     public String getNamespace() {
         return "starryforge";
@@ -15,16 +36,49 @@ public class IronHeartStatProvider implements NexusStatProvider {
 
     @Override
     public double getStat(ItemStack item, NexusStat stat) {
+        PerfMonitor perf = StarryForge.getInstance().getPerfMonitor();
+        perf.begin(PerfMonitor.Section.STAT_PROVIDERS);
+        try {
+            return readStat(item, stat);
+        } finally {
+            perf.end(PerfMonitor.Section.STAT_PROVIDERS);
+        }
+    }
+
+    private double readStat(ItemStack item, NexusStat stat) {
         if (item == null || !item.hasItemMeta()) return 0;
 
-        IronHeartWeapon weapon = PDCAdapter.readWeaponData(item);
-        if (weapon == null) return 0;
+        double[] stats = getStats(item);
+        if (stats == null) return 0;
 
         return switch (stat) {
-            case ATTACK_DAMAGE -> weapon.statsCache().damage();
-            case ATTACK_SPEED -> weapon.statsCache().speed(); // NexusCore usually expects total value or modifier? Assuming total.
-            case ATTACK_RANGE -> weapon.statsCache().reach();
+            case ATTACK_DAMAGE -> stats[DAMAGE];
+            case ATTACK_SPEED -> stats[SPEED]; // NexusCore usually expects total value or modifier? Assuming total.
+            case ATTACK_RANGE -> stats[REACH];
             default -> 0;
         };
     }
+
+    private double[] getStats(ItemStack item) {
+        PDCAdapter.WeaponKey key = PDCAdapter.readWeaponKey(item.getPersistentDataContainer());
+        if (key != null) {
+            synchronized (statCache) {
+                double[] cached = statCache.get(key);
+                if (cached != null) return cached;
+            }
+        }
+
+        IronHeartWeapon weapon = PDCAdapter.readWeaponData(item);
+        if (weapon == null) return null;
+
+        IronHeartWeapon.StatsCache sc = weapon.statsCache();
+        double[] stats = new double[] { sc.damage(), sc.speed(), sc.reach() };
+        // Items written before the header existed are decoded every time until they are rewritten
+        if (key != null) {
+            synchronized (statCache) {
+                statCache.put(key, stats);
+            }
+        }
+        return stats;
+    }
 }
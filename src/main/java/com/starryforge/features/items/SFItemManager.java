@@ -13,29 +13,51 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.scheduler.BukkitRunnable;
 import com.nexuscore.util.NexusKeys;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public class SFItemManager {
 
+    // 预热时每 tick 构建的物品数
+    private static final int WARMUP_PER_TICK = 8;
+
     private final StarryForge plugin;
-    private final Map<String, ItemStack> customItems = new HashMap<>();
+    // 物品 ID -> 构建器。加载时只解析 items.yml，ItemStack 在首次使用或预热时才构建
+    private final Map<String, Supplier<ItemStack>> definitions = new HashMap<>();
+    // 已计算 RPG 属性的模板，首次获取时生成，reload 时清空
+    private final Map<String, ItemStack> templates = new ConcurrentHashMap<>();
+    // getAllItems 使用的模板列表 (共享实例，不对外暴露)
+    private volatile List<ItemStack> allItemsView;
     private final MiniMessage mm = MiniMessage.miniMessage();
+    private BukkitRunnable warmUpTask;
 
     public SFItemManager(StarryForge plugin) {
         this.plugin = plugin;
         loadItems();
+        refreshTemplates();
     }
 
     public void reload() {
-        customItems.clear();
+        definitions.clear();
         loadItems();
+        refreshTemplates();
+    }
+
+    /**
+     * items.yml 中一个物品的描述，名称与 Lore 为未解析的 MiniMessage 字符串。
+     */
+    private record ItemDefinition(String key, Material material, String name, List<String> lore, int modelData,
+            boolean hasStar, int defaultStar) {
     }
 
     private void loadItems() {
@@ -102,10 +124,10 @@ public class SFItemManager {
         // This handles the custom block item for the Assembler
         if (itemsSection.contains("assembly_table")) {
             // Register as BARREL to avoid vanilla Smithing Table conflict
-            registerItem("assembly_table", Material.BARREL, mm.deserialize("<gradient:#FFD700:#FFA500>组装台</gradient>"),
+            registerItem("assembly_table", Material.BARREL, "<gradient:#FFD700:#FFA500>组装台</gradient>",
                     0, false,
-                    List.of(mm.deserialize("<gray>用于将标准组件组装成武器的基础设施。"),
-                            mm.deserialize("<gray>需要配合 <white>蓝图</white> 使用。")));
+                    List.of("<gray>用于将标准组件组装成武器的基础设施。",
+                            "<gray>需要配合 <white>蓝图</white> 使用。"));
         }
 
         for (String key : itemsSection.getKeys(false)) {
@@ -155,186 +177,208 @@ public class SFItemManager {
             boolean hasStar = section.getBoolean("star", true);
             int defaultStar = section.getInt("default_star", 1); // Allow configuring default star level
 
-            ItemStack item = new ItemStack(material);
-
-            // Special handling for Greatsword: Apply 1.21 Data Components for native
-            // blocking
-            // We MUST construct the full item NBT (including Name, Lore, PDC) and apply it
-            // via modifyItemStack
-            // because standard setItemMeta() might strip unknown Data Components like
-            // 'consumable' or 'blocks_attacks'.
-            if ("greatsword".equalsIgnoreCase(key)) {
-                try {
-                    // We use custom_data (PublicBukkitValues) to store PDC keys manually.
-                    // Dynamically get the key from Keys class to ensure match with PDCManager
-                    String itemIdKey = Keys.ITEM_ID_KEY.toString(); // e.g. "nexus:item_id" or "starryforge:sf_item_id"
-
-                    // PublicBukkitValues expects "namespace:key": "value"
-                    // We also include legacy keys just in case
-                    String customData = "{PublicBukkitValues:{\"" + itemIdKey
-                            + "\":\"greatsword\", \"starryforge:item_id\":\"greatsword\"}}";
-
-                    StringBuilder sb = new StringBuilder();
-                    sb.append(material.getKey().toString()); // minecraft:iron_sword
-                    sb.append("[");
-                    sb.append("blocks_attacks={damage_reductions:[{base:0,factor:0.5}]},");
-                    sb.append(
-                            "consumable={consume_seconds:72000, animation:'block', has_consume_particles:false, can_always_use:true},");
-
-                    // Note: We DO NOT set custom_model_data here manually.
-                    // ItemMeta.setCustomModelData() handles it correctly and safely across
-                    // versions.
-
-                    // Note: We DO NOT set custom_name or lore here.
-                    // We let the standard setItemMeta logic handle it below to ensure correct
-                    // formatting (MiniMessage)
-                    // and to avoid JSON escaping issues in the NBT string.
-                    // We assume setItemMeta will preserve the 'blocks_attacks' and 'consumable'
-                    // components.
-
-                    sb.append("custom_data=").append(customData);
-                    sb.append("]");
-
-                    String itemDef = sb.toString();
-                    // LogUtil.debug("Constructing Greatsword with NBT: " + itemDef);
-
-                    // 4. Generate Item
-                    @SuppressWarnings("deprecation")
-                    ItemStack tempItem = org.bukkit.Bukkit.getUnsafe().modifyItemStack(item, itemDef);
-                    item = tempItem;
-
-                    // 5. Allow fall-through to standard processing (Meta, PDC, Attributes)
-                    // This ensures Name/Lore are set correctly.
-
-                } catch (Throwable t) {
-                    plugin.getLogger().warning("Failed to apply Data Components to Greatsword: " + t.getMessage());
-                    t.printStackTrace();
-                    // Fallback to normal flow if failed
-                }
-            }
+            ItemDefinition definition = new ItemDefinition(key, material, name, List.copyOf(loreLines), modelData,
+                    hasStar, defaultStar);
+            definitions.put(key, () -> buildConfiguredItem(definition));
+        }
 
-            // Frostsigh Blade / Oblivion: Add consumable component for "Hold to Charge"
-            // (Iaido Stance)
-            // Removed from here to prevent overwrite by setItemMeta
+        // 特殊情况: 附魔书 (动态生成，纯 YAML 较难实现)
+        registerEnchantedBook();
 
-            // 1. Frostsigh Blade / Oblivion: Inject consumable component FIRST
-            // This is critical because modifyItemStack resets ItemMeta if we apply it later
-            if ("frost_sigh_blade".equalsIgnoreCase(key) || "frostsigh_oblivion".equalsIgnoreCase(key)) {
-                try {
-                    String itemIdKey = Keys.ITEM_ID_KEY.toString();
-                    String customData = "{PublicBukkitValues:{\"" + itemIdKey + "\":\"" + key
-                            + "\", \"starryforge:sf_item_id\":\"" + key + "\"}}";
-
-                    StringBuilder sb = new StringBuilder();
-                    sb.append(material.getKey().toString());
-                    sb.append("[");
-                    // Use 'bow' animation for Charging Stance
-                    sb.append(
-                            "consumable={consume_seconds:72000, animation:'bow', has_consume_particles:false, can_always_use:true},");
-
-                    sb.append("custom_data=").append(customData);
-                    sb.append("]");
-
-                    @SuppressWarnings("deprecation")
-                    ItemStack tempItem = org.bukkit.Bukkit.getUnsafe().modifyItemStack(item, sb.toString());
-                    item = tempItem;
-
-                } catch (Throwable t) {
-                    plugin.getLogger().warning("Failed to apply Data Components to Frostsigh: " + t.getMessage());
-                }
-            }
+        // 注册洗矿台变种 (I, II, III)
+        registerSluiceVariants();
 
-            ItemMeta meta = item.getItemMeta();
-            if (meta != null) {
-                meta.displayName(mm.deserialize(name));
-                if (modelData != 0) {
-                    meta.setCustomModelData(modelData);
-                }
+        // 注册锻造相关物品
+        registerForgingItems();
 
-                // 设置 ID
-                PDCManager.setString(item, Keys.ITEM_ID_KEY, key);
-                // 同时也直接在 meta 上设置，以符合当前逻辑
-                meta.getPersistentDataContainer().set(Keys.ITEM_ID_KEY, PersistentDataType.STRING, key);
-                // NexusCore Unified ID
-                meta.getPersistentDataContainer().set(NexusKeys.ITEM_ID, PersistentDataType.STRING, key);
-
-                // Set CraftEngine identifier for CE to recognize and apply textures
-                org.bukkit.NamespacedKey ceIdKey = new org.bukkit.NamespacedKey("craft_engine", "id");
-                String ceItemId = "starryforge:" + key.toLowerCase();
-                meta.getPersistentDataContainer().set(ceIdKey, PersistentDataType.STRING, ceItemId);
-
-                // Set Star Flag & Rating
-                if (hasStar) {
-                    // Set flag for legacy support
-                    org.bukkit.NamespacedKey starKey = new org.bukkit.NamespacedKey(plugin, "nexus_has_star");
-                    meta.getPersistentDataContainer().set(starKey, PersistentDataType.INTEGER, 1);
-
-                    // Set NexusCore Standard Rating (Default to config value or 1)
-                    meta.getPersistentDataContainer().set(NexusKeys.STAR_RATING, PersistentDataType.INTEGER,
-                            defaultStar);
-                }
+        LogUtil.debug("Loaded " + definitions.size() + " item definitions from items.yml");
+    }
 
-                // Add optimization flag for FrostsighListener
-                if ("frost_sigh_blade".equalsIgnoreCase(key) || "frostsigh_oblivion".equalsIgnoreCase(key)) {
-                    org.bukkit.NamespacedKey flagKey = new org.bukkit.NamespacedKey(plugin, "sf_consumable_injected");
-                    meta.getPersistentDataContainer().set(flagKey, PersistentDataType.BYTE, (byte) 1);
-                }
+    /**
+     * 按 items.yml 中的描述构建物品 (MiniMessage 名称与 Lore、数据组件)，在首次使用或预热时调用。
+     */
+    private ItemStack buildConfiguredItem(ItemDefinition definition) {
+        String key = definition.key();
+        Material material = definition.material();
+        String name = definition.name();
+        List<String> loreLines = definition.lore();
+        int modelData = definition.modelData();
+        boolean hasStar = definition.hasStar();
+        int defaultStar = definition.defaultStar();
 
-                List<Component> lore = new ArrayList<>();
-                for (String line : loreLines) {
-                    lore.add(mm.deserialize(line));
-                }
-                meta.lore(lore);
+        ItemStack item = new ItemStack(material);
 
-                item.setItemMeta(meta);
+        // Special handling for Greatsword: Apply 1.21 Data Components for native
+        // blocking
+        // We MUST construct the full item NBT (including Name, Lore, PDC) and apply it
+        // via modifyItemStack
+        // because standard setItemMeta() might strip unknown Data Components like
+        // 'consumable' or 'blocks_attacks'.
+        if ("greatsword".equalsIgnoreCase(key)) {
+            try {
+                // We use custom_data (PublicBukkitValues) to store PDC keys manually.
+                // Dynamically get the key from Keys class to ensure match with PDCManager
+                String itemIdKey = Keys.ITEM_ID_KEY.toString(); // e.g. "nexus:item_id" or "starryforge:sf_item_id"
+
+                // PublicBukkitValues expects "namespace:key": "value"
+                // We also include legacy keys just in case
+                String customData = "{PublicBukkitValues:{\"" + itemIdKey
+                        + "\":\"greatsword\", \"starryforge:item_id\":\"greatsword\"}}";
+
+                StringBuilder sb = new StringBuilder();
+                sb.append(material.getKey().toString()); // minecraft:iron_sword
+                sb.append("[");
+                sb.append("blocks_attacks={damage_reductions:[{base:0,factor:0.5}]},");
+                sb.append(
+                        "consumable={consume_seconds:72000, animation:'block', has_consume_particles:false, can_always_use:true},");
+
+                // Note: We DO NOT set custom_model_data here manually.
+                // ItemMeta.setCustomModelData() handles it correctly and safely across
+                // versions.
+
+                // Note: We DO NOT set custom_name or lore here.
+                // We let the standard setItemMeta logic handle it below to ensure correct
+                // formatting (MiniMessage)
+                // and to avoid JSON escaping issues in the NBT string.
+                // We assume setItemMeta will preserve the 'blocks_attacks' and 'consumable'
+                // components.
+
+                sb.append("custom_data=").append(customData);
+                sb.append("]");
+
+                String itemDef = sb.toString();
+                // LogUtil.debug("Constructing Greatsword with NBT: " + itemDef);
+
+                // 4. Generate Item
+                @SuppressWarnings("deprecation")
+                ItemStack tempItem = org.bukkit.Bukkit.getUnsafe().modifyItemStack(item, itemDef);
+                item = tempItem;
 
-                // Apply NexusCore RPG Attributes
+                // 5. Allow fall-through to standard processing (Meta, PDC, Attributes)
+                // This ensures Name/Lore are set correctly.
+
+            } catch (Throwable t) {
+                plugin.getLogger().warning("Failed to apply Data Components to Greatsword: " + t.getMessage());
+                t.printStackTrace();
+                // Fallback to normal flow if failed
             }
-            customItems.put(key, item);
         }
 
-        // 特殊情况: 附魔书 (动态生成，纯 YAML 较难实现)
-        registerEnchantedBook();
+        // Frostsigh Blade / Oblivion: Add consumable component for "Hold to Charge"
+        // (Iaido Stance)
+        // Removed from here to prevent overwrite by setItemMeta
 
-        // 注册洗矿台变种 (I, II, III)
-        registerSluiceVariants();
+        // 1. Frostsigh Blade / Oblivion: Inject consumable component FIRST
+        // This is critical because modifyItemStack resets ItemMeta if we apply it later
+        if ("frost_sigh_blade".equalsIgnoreCase(key) || "frostsigh_oblivion".equalsIgnoreCase(key)) {
+            try {
+                String itemIdKey = Keys.ITEM_ID_KEY.toString();
+                String customData = "{PublicBukkitValues:{\"" + itemIdKey + "\":\"" + key
+                        + "\", \"starryforge:sf_item_id\":\"" + key + "\"}}";
 
-        // 注册锻造相关物品
-        registerForgingItems();
+                StringBuilder sb = new StringBuilder();
+                sb.append(material.getKey().toString());
+                sb.append("[");
+                // Use 'bow' animation for Charging Stance
+                sb.append(
+                        "consumable={consume_seconds:72000, animation:'bow', has_consume_particles:false, can_always_use:true},");
 
-        LogUtil.debug("Loaded " + customItems.size() + " items from items.yml");
-    }
+                sb.append("custom_data=").append(customData);
+                sb.append("]");
 
-    private void registerSluiceVariants() {
-        for (int i = 1; i <= 3; i++) {
-            String key = "SLUICE_MACHINE_" + toRoman(i);
+                @SuppressWarnings("deprecation")
+                ItemStack tempItem = org.bukkit.Bukkit.getUnsafe().modifyItemStack(item, sb.toString());
+                item = tempItem;
 
-            // Force overwrite to ensure correct lang keys are used
-            ItemStack item = new ItemStack(Material.BARREL);
-            ItemMeta meta = item.getItemMeta();
-            String nameKey = "items.sluice_machine.tier_" + i + ".name";
-            String name = plugin.getConfigManager().getMessage(nameKey);
+            } catch (Throwable t) {
+                plugin.getLogger().warning("Failed to apply Data Components to Frostsigh: " + t.getMessage());
+            }
+        }
 
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
             meta.displayName(mm.deserialize(name));
+            if (modelData != 0) {
+                meta.setCustomModelData(modelData);
+            }
 
-            // 设置自定义模型数据区分纹理
-            // I: 3001, II: 3002, III: 3003 (假设值，需资源包配合)
-            meta.setCustomModelData(3000 + i);
+            // 设置 ID
+            PDCManager.setString(item, Keys.ITEM_ID_KEY, key);
+            // 同时也直接在 meta 上设置，以符合当前逻辑
+            meta.getPersistentDataContainer().set(Keys.ITEM_ID_KEY, PersistentDataType.STRING, key);
+            // NexusCore Unified ID
+            meta.getPersistentDataContainer().set(NexusKeys.ITEM_ID, PersistentDataType.STRING, key);
+
+            // Set CraftEngine identifier for CE to recognize and apply textures
+            org.bukkit.NamespacedKey ceIdKey = new org.bukkit.NamespacedKey("craft_engine", "id");
+            String ceItemId = "starryforge:" + key.toLowerCase();
+            meta.getPersistentDataContainer().set(ceIdKey, PersistentDataType.STRING, ceItemId);
+
+            // Set Star Flag & Rating
+            if (hasStar) {
+                // Set flag for legacy support
+                org.bukkit.NamespacedKey starKey = new org.bukkit.NamespacedKey(plugin, "nexus_has_star");
+                meta.getPersistentDataContainer().set(starKey, PersistentDataType.INTEGER, 1);
+
+                // Set NexusCore Standard Rating (Default to config value or 1)
+                meta.getPersistentDataContainer().set(NexusKeys.STAR_RATING, PersistentDataType.INTEGER,
+                        defaultStar);
+            }
+
+            // Add optimization flag for FrostsighListener
+            if ("frost_sigh_blade".equalsIgnoreCase(key) || "frostsigh_oblivion".equalsIgnoreCase(key)) {
+                org.bukkit.NamespacedKey flagKey = new org.bukkit.NamespacedKey(plugin, "sf_consumable_injected");
+                meta.getPersistentDataContainer().set(flagKey, PersistentDataType.BYTE, (byte) 1);
+            }
 
-            List<String> loreList = plugin.getConfigManager()
-                    .getMessageList("items.sluice_machine.tier_" + i + ".lore");
             List<Component> lore = new ArrayList<>();
-            for (String line : loreList) {
+            for (String line : loreLines) {
                 lore.add(mm.deserialize(line));
             }
             meta.lore(lore);
 
-            PDCManager.setString(item, Keys.ITEM_ID_KEY, key);
-            meta.getPersistentDataContainer().set(Keys.ITEM_ID_KEY, PersistentDataType.STRING, key);
-
             item.setItemMeta(meta);
-            customItems.put(key, item);
+
+            // Apply NexusCore RPG Attributes
         }
+        return item;
+    }
+
+    private void registerSluiceVariants() {
+        for (int i = 1; i <= 3; i++) {
+            int tier = i;
+            // Force overwrite to ensure correct lang keys are used
+            definitions.put("SLUICE_MACHINE_" + toRoman(i), () -> buildSluiceVariant(tier));
+        }
+    }
+
+    private ItemStack buildSluiceVariant(int i) {
+        String key = "SLUICE_MACHINE_" + toRoman(i);
+
+        ItemStack item = new ItemStack(Material.BARREL);
+        ItemMeta meta = item.getItemMeta();
+        String nameKey = "items.sluice_machine.tier_" + i + ".name";
+        String name = plugin.getConfigManager().getMessage(nameKey);
+
+        meta.displayName(mm.deserialize(name));
+
+        // 设置自定义模型数据区分纹理
+        // I: 3001, II: 3002, III: 3003 (假设值，需资源包配合)
+        meta.setCustomModelData(3000 + i);
+
+        List<String> loreList = plugin.getConfigManager()
+                .getMessageList("items.sluice_machine.tier_" + i + ".lore");
+        List<Component> lore = new ArrayList<>();
+        for (String line : loreList) {
+            lore.add(mm.deserialize(line));
+        }
+        meta.lore(lore);
+
+        PDCManager.setString(item, Keys.ITEM_ID_KEY, key);
+        meta.getPersistentDataContainer().set(Keys.ITEM_ID_KEY, PersistentDataType.STRING, key);
+
+        item.setItemMeta(meta);
+        return item;
     }
 
     private String toRoman(int n) {
@@ -349,31 +393,31 @@ public class SFItemManager {
     private void registerForgingItems() {
         // T1 Hammer
         // 尝试从配置加载，如果没有则使用代码默认值注册
-        ItemStack t1 = registerManualItem("FORGING_HAMMER_T1", Material.IRON_PICKAXE, 6011, "items.forging_hammer_t1");
-        applyHammerTier(t1, 1);
+        registerManualItem("FORGING_HAMMER_T1", Material.IRON_PICKAXE, 6011, "items.forging_hammer_t1");
+        withHammerTier("FORGING_HAMMER_T1", 1);
 
         // mappings for Legacy
-        if (!customItems.containsKey("FORGING_HAMMER")) {
-            customItems.put("FORGING_HAMMER", t1.clone()); // Map Legacy ID to T1 item? Or just different ID same stats?
-            // If we duplicate, we need to ensure ID key is legacy.
-            ItemStack legacy = t1.clone();
-            PDCManager.setString(legacy, Keys.ITEM_ID_KEY, "FORGING_HAMMER");
-            customItems.put("FORGING_HAMMER", legacy);
+        if (!definitions.containsKey("FORGING_HAMMER")) {
+            // Map Legacy ID to T1 item, only the ID key differs
+            Supplier<ItemStack> t1 = definitions.get("FORGING_HAMMER_T1");
+            definitions.put("FORGING_HAMMER", () -> {
+                ItemStack legacy = t1.get();
+                PDCManager.setString(legacy, Keys.ITEM_ID_KEY, "FORGING_HAMMER");
+                return legacy;
+            });
         }
 
         // T2 Hammer
-        ItemStack t2 = registerManualItem("FORGING_HAMMER_T2", Material.DIAMOND_PICKAXE, 6012,
-                "items.forging_hammer_t2");
-        applyHammerTier(t2, 2);
+        registerManualItem("FORGING_HAMMER_T2", Material.DIAMOND_PICKAXE, 6012, "items.forging_hammer_t2");
+        withHammerTier("FORGING_HAMMER_T2", 2);
 
         // T3 Hammer
-        ItemStack t3 = registerManualItem("FORGING_HAMMER_T3", Material.NETHERITE_PICKAXE, 6013,
-                "items.forging_hammer_t3");
-        applyHammerTier(t3, 3);
+        registerManualItem("FORGING_HAMMER_T3", Material.NETHERITE_PICKAXE, 6013, "items.forging_hammer_t3");
+        withHammerTier("FORGING_HAMMER_T3", 3);
 
         // Titan's Hammer (Legacy T3 variant)
-        ItemStack titans = registerManualItem("TITANS_HAMMER", Material.NETHERITE_PICKAXE, 4002, "items.titans_hammer");
-        applyHammerTier(titans, 3); // Titan is T3
+        registerManualItem("TITANS_HAMMER", Material.NETHERITE_PICKAXE, 4002, "items.titans_hammer");
+        withHammerTier("TITANS_HAMMER", 3); // Titan is T3
 
         // Astral Forge Node
         registerManualItem("ASTRAL_FORGE_NODE", Material.SMITHING_TABLE, 6001, "items.astral_forge_node");
@@ -401,16 +445,21 @@ public class SFItemManager {
         registerManualItem("COMPONENT_WEIGHT", Material.IRON_INGOT, 10006, "items.component_weight");
     }
 
-    private void registerItem(String id, Material material, Component name, int modelData, boolean glow,
-            List<Component> lore) {
+    private void registerItem(String id, Material material, String name, int modelData, boolean glow,
+            List<String> lore) {
+        definitions.put(id, () -> buildItem(id, material, name, modelData, glow, lore));
+    }
+
+    private ItemStack buildItem(String id, Material material, String name, int modelData, boolean glow,
+            List<String> lore) {
         ItemStack item = new ItemStack(material);
         ItemMeta meta = item.getItemMeta();
         if (meta != null) {
-            meta.displayName(name);
+            meta.displayName(mm.deserialize(name));
             if (modelData > 0)
                 meta.setCustomModelData(modelData);
             if (lore != null)
-                meta.lore(lore);
+                meta.lore(lore.stream().map(mm::deserialize).toList());
 
             // Set ID in PDC
             PDCManager.setString(item, Keys.ITEM_ID_KEY, id);
@@ -430,12 +479,21 @@ public class SFItemManager {
 
             item.setItemMeta(meta);
         }
-        customItems.put(id, item);
+        return item;
     }
 
-    private void applyHammerTier(ItemStack item, int tier) {
-        if (item == null)
+    private void withHammerTier(String id, int tier) {
+        Supplier<ItemStack> base = definitions.get(id);
+        if (base == null)
             return;
+        definitions.put(id, () -> {
+            ItemStack item = base.get();
+            applyHammerTier(item, tier);
+            return item;
+        });
+    }
+
+    private void applyHammerTier(ItemStack item, int tier) {
         ItemMeta meta = item.getItemMeta();
         if (meta != null) {
             meta.getPersistentDataContainer().set(new org.bukkit.NamespacedKey(plugin, "hammer_tier"),
@@ -444,43 +502,49 @@ public class SFItemManager {
         }
     }
 
-    private ItemStack registerManualItem(String id, Material mat, int modelData, String langKey) {
-        if (!customItems.containsKey(id)) {
-            // Create default if not in yaml
-            ItemStack item = new ItemStack(mat);
-            ItemMeta meta = item.getItemMeta();
+    private void registerManualItem(String id, Material mat, int modelData, String langKey) {
+        // Create default if not in yaml
+        if (!definitions.containsKey(id)) {
+            definitions.put(id, () -> buildManualItem(id, mat, modelData, langKey));
+        }
+    }
 
-            String name = plugin.getConfigManager().getMessage(langKey + ".name");
-            if (name == null || name.startsWith("<red>Missing"))
-                name = "<gray>" + id;
+    private ItemStack buildManualItem(String id, Material mat, int modelData, String langKey) {
+        ItemStack item = new ItemStack(mat);
+        ItemMeta meta = item.getItemMeta();
 
-            meta.displayName(mm.deserialize(name));
-            if (modelData > 0)
-                meta.setCustomModelData(modelData);
+        String name = plugin.getConfigManager().getMessage(langKey + ".name");
+        if (name == null || name.startsWith("<red>Missing"))
+            name = "<gray>" + id;
 
-            List<String> loreLines = plugin.getConfigManager().getMessageList(langKey + ".lore");
-            if (loreLines != null && !loreLines.isEmpty()) {
-                List<Component> lore = new ArrayList<>();
-                for (String line : loreLines) {
-                    lore.add(mm.deserialize(line));
-                }
-                meta.lore(lore);
+        meta.displayName(mm.deserialize(name));
+        if (modelData > 0)
+            meta.setCustomModelData(modelData);
+
+        List<String> loreLines = plugin.getConfigManager().getMessageList(langKey + ".lore");
+        if (loreLines != null && !loreLines.isEmpty()) {
+            List<Component> lore = new ArrayList<>();
+            for (String line : loreLines) {
+                lore.add(mm.deserialize(line));
             }
+            meta.lore(lore);
+        }
 
-            PDCManager.setString(item, Keys.ITEM_ID_KEY, id);
-            meta.getPersistentDataContainer().set(Keys.ITEM_ID_KEY, PersistentDataType.STRING, id);
+        PDCManager.setString(item, Keys.ITEM_ID_KEY, id);
+        meta.getPersistentDataContainer().set(Keys.ITEM_ID_KEY, PersistentDataType.STRING, id);
 
-            item.setItemMeta(meta);
-            customItems.put(id, item);
-        }
-        // Always return the item (whether newly created or loaded from YAML)
-        return customItems.get(id);
+        item.setItemMeta(meta);
+        return item;
     }
 
     private void registerEnchantedBook() {
+        // Always recreate to ensure lang updates
+        definitions.put("ENCHANTED_BOOK_LITHIC_INSIGHT", this::buildEnchantedBook);
+    }
+
+    private ItemStack buildEnchantedBook() {
         String key = "ENCHANTED_BOOK_LITHIC_INSIGHT";
 
-        // Always recreate to ensure lang updates
         ItemStack book = new ItemStack(Material.ENCHANTED_BOOK);
         ItemMeta bookMeta = book.getItemMeta();
         if (bookMeta != null) {
@@ -502,94 +566,153 @@ public class SFItemManager {
 
         // 应用逻辑
         LithicInsightEnchantment.apply(book, 1);
-        customItems.put(key, book);
+        return book;
     }
 
     public ItemStack getItem(String key) {
-        if (customItems.containsKey(key)) {
-            ItemStack item = customItems.get(key).clone();
-            // Ensure attributes are up-to-date
-            try {
-                if (org.bukkit.Bukkit.getPluginManager().isPluginEnabled("NexusCore")) {
-                    com.nexuscore.NexusCore.getInstance().getRpgManager().updateItemAttributes(item);
-                }
-            } catch (Exception e) {
-                // Ignore errors during get (e.g. if NexusCore not ready)
-                plugin.getLogger()
-                        .warning("[SFItemManager] Failed to update attributes for " + key + ": " + e.getMessage());
-            }
+        ItemStack template = getTemplate(key);
+        return template != null ? template.clone() : null;
+    }
 
-            // 4. Generate Lore for Blueprints
-            if (key.equals("WRITTEN_BLUEPRINT") && item.hasItemMeta()) {
-                ItemMeta meta = item.getItemMeta();
-                if (meta != null) {
-                    String blueprintId = com.starryforge.features.core.PDCManager.getString(item,
-                            com.starryforge.utils.Keys.BLUEPRINT_TARGET);
-                    if (blueprintId != null) {
-                        com.starryforge.features.ironheart.config.BlueprintConfig.Blueprint bp = plugin
-                                .getIronHeartManager().getBlueprintConfig().getBlueprint(blueprintId);
-                        if (bp != null) {
-                            plugin.getLogger().info("[Debug] Generating lore for blueprint: " + blueprintId);
-                            java.util.List<net.kyori.adventure.text.Component> existingLore = meta.lore();
-                            java.util.List<net.kyori.adventure.text.Component> lore = existingLore != null
-                                    ? existingLore
-                                    : new java.util.ArrayList<>();
-
-                            lore.add(net.kyori.adventure.text.Component.empty());
-
-                            String header = plugin.getConfigManager()
-                                    .getMessage("forging.gui.blueprint_lore_components_header");
-                            if (!header.contains("Missing")) {
-                                lore.add(mm.deserialize(header));
-                            }
+    /**
+     * 已完成 RPG 属性计算的模板，每个物品每次加载只构建一次 (首次获取或预热时)。调用方不得修改返回值。
+     */
+    private ItemStack getTemplate(String key) {
+        ItemStack template = templates.get(key);
+        if (template == null) {
+            Supplier<ItemStack> definition = definitions.get(key);
+            if (definition == null)
+                return null;
+            template = finalizeTemplate(key, definition.get());
+            templates.put(key, template);
+        }
+        return template;
+    }
+
+    private ItemStack finalizeTemplate(String key, ItemStack item) {
+        // Ensure attributes are up-to-date
+        try {
+            if (org.bukkit.Bukkit.getPluginManager().isPluginEnabled("NexusCore")) {
+                com.nexuscore.NexusCore.getInstance().getRpgManager().updateItemAttributes(item);
+            }
+        } catch (Exception e) {
+            // Ignore errors during get (e.g. if NexusCore not ready)
+            plugin.getLogger()
+                    .warning("[SFItemManager] Failed to update attributes for " + key + ": " + e.getMessage());
+        }
 
-                            bp.requiredComponents().forEach((type, count) -> {
-                                String typeKey = "component_types." + type.name().toLowerCase();
-                                String typeName = plugin.getConfigManager().getMessage(typeKey);
-                                if (typeName.contains("Missing"))
-                                    typeName = type.name();
-
-                                String format = plugin.getConfigManager()
-                                        .getMessage("forging.gui.blueprint_lore_component_format");
-                                if (format.contains("Missing"))
-                                    format = "<dark_gray>- <white>{amount}x {component}";
-
-                                lore.add(mm.deserialize(format
-                                        .replace("{amount}", String.valueOf(count))
-                                        .replace("{component}", typeName)));
-                            });
-                            meta.lore(lore);
-                            item.setItemMeta(meta);
+        // 4. Generate Lore for Blueprints
+        if (key.equals("WRITTEN_BLUEPRINT") && item.hasItemMeta()) {
+            ItemMeta meta = item.getItemMeta();
+            if (meta != null) {
+                String blueprintId = com.starryforge.features.core.PDCManager.getString(item,
+                        com.starryforge.utils.Keys.BLUEPRINT_TARGET);
+                if (blueprintId != null) {
+                    com.starryforge.features.ironheart.config.BlueprintConfig.Blueprint bp = plugin
+                            .getIronHeartManager().getBlueprintConfig().getBlueprint(blueprintId);
+                    if (bp != null) {
+                        LogUtil.debug("Generating lore for blueprint: " + blueprintId);
+                        java.util.List<net.kyori.adventure.text.Component> existingLore = meta.lore();
+                        java.util.List<net.kyori.adventure.text.Component> lore = existingLore != null
+                                ? existingLore
+                                : new java.util.ArrayList<>();
+
+                        lore.add(net.kyori.adventure.text.Component.empty());
+
+                        String header = plugin.getConfigManager()
+                                .getMessage("forging.gui.blueprint_lore_components_header");
+                        if (!header.contains("Missing")) {
+                            lore.add(mm.deserialize(header));
                         }
+
+                        bp.requiredComponents().forEach((type, count) -> {
+                            String typeKey = "component_types." + type.name().toLowerCase();
+                            String typeName = plugin.getConfigManager().getMessage(typeKey);
+                            if (typeName.contains("Missing"))
+                                typeName = type.name();
+
+                            String format = plugin.getConfigManager()
+                                    .getMessage("forging.gui.blueprint_lore_component_format");
+                            if (format.contains("Missing"))
+                                format = "<dark_gray>- <white>{amount}x {component}";
+
+                            lore.add(mm.deserialize(format
+                                    .replace("{amount}", String.valueOf(count))
+                                    .replace("{component}", typeName)));
+                        });
+                        meta.lore(lore);
+                        item.setItemMeta(meta);
                     }
                 }
             }
+        }
+        return item;
+    }
 
-            return item;
+    /**
+     * 丢弃已生成的模板 (reload、NexusCore 重新启用时调用)，并在之后的若干 tick 内分批重新预热，
+     * 避免启用时一次性构建所有物品。预热完成前被请求的物品会当场构建。
+     */
+    public void refreshTemplates() {
+        templates.clear();
+        allItemsView = null;
+        startWarmUp();
+    }
+
+    private void startWarmUp() {
+        if (warmUpTask != null && !warmUpTask.isCancelled()) {
+            warmUpTask.cancel();
         }
-        return null;
+        List<String> pending = new ArrayList<>(definitions.keySet());
+        warmUpTask = new BukkitRunnable() {
+            private int next;
+            private long elapsed;
+
+            @Override
+            public void run() {
+                long start = System.nanoTime();
+                int end = Math.min(pending.size(), next + WARMUP_PER_TICK);
+                for (; next < end; next++) {
+                    try {
+                        getTemplate(pending.get(next));
+                    } catch (Exception e) {
+                        plugin.getLogger().warning(
+                                "[SFItemManager] Failed to build item " + pending.get(next) + ": " + e.getMessage());
+                    }
+                }
+                elapsed += System.nanoTime() - start;
+                if (next >= pending.size()) {
+                    LogUtil.debug(String.format("Warmed up %d items in %.1fms", pending.size(), elapsed / 1e6));
+                    cancel();
+                }
+            }
+        };
+        // 第一批在启用完成后的下一 tick 执行 (蓝图 Lore 依赖之后才创建的 IronHeartManager)
+        warmUpTask.runTaskTimer(plugin, 1L, 1L);
     }
 
     public Set<String> getItemNames() {
-        return customItems.keySet();
+        return Collections.unmodifiableSet(definitions.keySet());
     }
 
+    /**
+     * 所有物品的副本。模板列表在 reload 前复用，每次调用只做 clone，调用方可以自由修改返回的物品。
+     */
     public List<ItemStack> getAllItems() {
-        List<ItemStack> items = new ArrayList<>();
-        for (ItemStack item : customItems.values()) {
-            ItemStack clone = item.clone();
-            // Ensure attributes are up-to-date
-            try {
-                if (org.bukkit.Bukkit.getPluginManager().isPluginEnabled("NexusCore")) {
-                    com.nexuscore.NexusCore.getInstance().getRpgManager().updateItemAttributes(clone);
-                }
-            } catch (Exception e) {
-                plugin.getLogger()
-                        .warning("[SFItemManager] Failed to update attributes in getAllItems: " + e.getMessage());
+        List<ItemStack> view = allItemsView;
+        if (view == null) {
+            List<ItemStack> items = new ArrayList<>(definitions.size());
+            for (String key : definitions.keySet()) {
+                items.add(getTemplate(key));
             }
-            items.add(clone);
+            view = Collections.unmodifiableList(items);
+            allItemsView = view;
+        }
+        List<ItemStack> copies = new ArrayList<>(view.size());
+        for (ItemStack template : view) {
+            copies.add(template.clone());
         }
-        return items;
+        return copies;
     }
 
     public ItemStack createUnidentifiedCluster(int stars) {
@@ -3,6 +3,8 @@ package com.starryforge.features.items;
 import com.nexuscore.util.NexusKeys;
 import com.nexuscore.rpg.provider.NexusStatProvider;
 import com.nexuscore.rpg.stats.NexusStat;
+import com.starryforge.StarryForge;
+import com.starryforge.features.core.PerfMonitor;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.NotNull;
@@ -17,9 +19,19 @@ public class StarryStatProvider implements NexusStatProvider {
 
     @Override
     public double getStat(@NotNull ItemStack item, @NotNull NexusStat stat) {
+        PerfMonitor perf = StarryForge.getInstance().getPerfMonitor();
+        perf.begin(PerfMonitor.Section.STAT_PROVIDERS);
+        try {
+            return readStat(item, stat);
+        } finally {
+            perf.end(PerfMonitor.Section.STAT_PROVIDERS);
+        }
+    }
+
+    private double readStat(ItemStack item, NexusStat stat) {
         if (!item.hasItemMeta()) return 0;
         
-        var pdc = item.getItemMeta().getPersistentDataContainer();
+        var pdc = item.getPersistentDataContainer();
         String itemId = pdc.get(NexusKeys.ITEM_ID, PersistentDataType.STRING);
         Integer star = pdc.get(NexusKeys.STAR_RATING, PersistentDataType.INTEGER);
         
@@ -28,7 +40,7 @@ public class StarryStatProvider implements NexusStatProvider {
         double val = StarryItemStats.getStat(itemId, star, stat);
         if (val > 0) {
             // Debug log to trace if stats are being read
-            com.starryforge.StarryForge.getInstance().getLogger().info("[StatProvider] Providing " + stat + " for " + itemId + " (" + star + "*) = " + val);
+            com.starryforge.utils.LogUtil.debug("[StatProvider] Providing " + stat + " for " + itemId + " (" + star + "*) = " + val);
         }
         return val;
     }
@@ -1,7 +1,9 @@
 package com.starryforge.features.items.frostsigh;
 
 import com.starryforge.StarryForge;
-import net.kyori.adventure.text.minimessage.MiniMessage;
+import com.starryforge.features.core.ConfigSnapshot;
+import com.starryforge.features.core.PerfMonitor;
+import com.starryforge.utils.HudText;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.LivingEntity;
@@ -24,7 +26,6 @@ public class FrostMarkManager {
 
     private static FrostMarkManager instance;
     private final StarryForge plugin;
-    private final MiniMessage mm = MiniMessage.miniMessage();
     
     // Map<EntityUUID, MarkData>
     private final Map<UUID, MarkData> activeMarks = new ConcurrentHashMap<>();
@@ -45,7 +46,13 @@ public class FrostMarkManager {
         task = new BukkitRunnable() {
             @Override
             public void run() {
-                tick();
+                PerfMonitor perf = plugin.getPerfMonitor();
+                perf.begin(PerfMonitor.Section.FROST_MARKS);
+                try {
+                    tick();
+                } finally {
+                    perf.end(PerfMonitor.Section.FROST_MARKS);
+                }
             }
         };
         task.runTaskTimer(plugin, 1L, 1L);
@@ -64,8 +71,8 @@ public class FrostMarkManager {
      * @param attacker The attacker (for attribution)
      */
     public void applyStack(LivingEntity target, Player attacker) {
-        int maxStacks = plugin.getConfigManager().getLegendaryConfig().getInt("frostsigh.passive.stack_limit", 10);
-        long decayMs = plugin.getConfigManager().getLegendaryConfig().getLong("frostsigh.passive.decay_ms", 10000);
+        int maxStacks = plugin.getConfigManager().getSettings().frostsigh().stackLimit();
+        long decayMs = plugin.getConfigManager().getSettings().frostsigh().decayMs();
 
         activeMarks.compute(target.getUniqueId(), (uuid, data) -> {
             if (data == null) {
@@ -80,7 +87,7 @@ public class FrostMarkManager {
         target.getWorld().playSound(target.getLocation(), Sound.BLOCK_GLASS_HIT, 1.0f, 0.5f + (stacks * 0.1f));
         
         // Actionbar to attacker
-        attacker.sendActionBar(mm.deserialize("<gradient:aqua:white>❄ 冰霜印记: " + stacks + "/10 ❄</gradient>"));
+        attacker.sendActionBar(HudText.parse("<gradient:aqua:white>❄ 冰霜印记: " + stacks + "/10 ❄</gradient>"));
     }
 
     public int getStacks(LivingEntity target) {
@@ -98,11 +105,12 @@ public class FrostMarkManager {
 
     private void tick() {
         long now = System.currentTimeMillis();
-        long decayMs = plugin.getConfigManager().getLegendaryConfig().getLong("frostsigh.passive.decay_ms", 10000);
-        int freezeMaintain = plugin.getConfigManager().getLegendaryConfig().getInt("frostsigh.passive.freeze_ticks_maintain", 150);
-        double damagePerStack = plugin.getConfigManager().getLegendaryConfig().getDouble("frostsigh.passive.scaling_damage_per_stack", 0.5);
-        int dotInterval = plugin.getConfigManager().getLegendaryConfig().getInt("frostsigh.passive.dot_interval_ticks", 40);
-        int dotOffset = plugin.getConfigManager().getLegendaryConfig().getInt("frostsigh.passive.scaling_damage_offset_ticks", 20);
+        ConfigSnapshot.FrostsighSettings settings = plugin.getConfigManager().getSettings().frostsigh();
+        long decayMs = settings.decayMs();
+        int freezeMaintain = settings.freezeTicksMaintain();
+        double damagePerStack = settings.damagePerStack();
+        int dotInterval = settings.dotIntervalTicks();
+        int dotOffset = settings.dotOffsetTicks();
 
         Iterator<Map.Entry<UUID, MarkData>> it = activeMarks.entrySet().iterator();
 
@@ -131,7 +139,7 @@ public class FrostMarkManager {
                      ItemStack item = data.attacker.getInventory().getItemInMainHand();
                      if (FrostsighListener.isFrostsighOblivionStatic(item)) {
                          // Show persistent HUD
-                         data.attacker.sendActionBar(mm.deserialize("<gradient:aqua:white>❄ 目标印记: " + data.stacks + "/10 ❄</gradient>"));
+                         data.attacker.sendActionBar(HudText.parse("<gradient:aqua:white>❄ 目标印记: " + data.stacks + "/10 ❄</gradient>"));
                      }
                 }
             }
@@ -3,6 +3,7 @@ package com.starryforge.features.items.frostsigh;
 import com.nexuscore.rpg.ability.AbilityTrigger;
 import com.nexuscore.rpg.ability.NexusAbility;
 import com.starryforge.StarryForge;
+import com.starryforge.utils.HudText;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Color;
 import org.bukkit.Location;
@@ -56,23 +57,23 @@ public class FrostsighAbility implements NexusAbility {
 
     // Configuration Helpers
     private int getMaxHold() {
-        return plugin.getConfigManager().getLegendaryConfig().getInt("frostsigh.max_hold_ticks", 300);
+        return plugin.getConfigManager().getSettings().frostsigh().maxHoldTicks();
     }
     
     private long getCooldownMs() {
-        return plugin.getConfigManager().getLegendaryConfig().getLong("frostsigh.cooldown_ms", 8000);
+        return plugin.getConfigManager().getSettings().frostsigh().cooldownMs();
     }
 
     private int getThresholdReady() {
-        return (int) (getMaxHold() * plugin.getConfigManager().getLegendaryConfig().getDouble("frostsigh.thresholds.ready_percent", 0.10));
+        return (int) (getMaxHold() * plugin.getConfigManager().getSettings().frostsigh().readyPercent());
     }
 
     private int getThresholdPower() {
-        return (int) (getMaxHold() * plugin.getConfigManager().getLegendaryConfig().getDouble("frostsigh.thresholds.power_percent", 0.33));
+        return (int) (getMaxHold() * plugin.getConfigManager().getSettings().frostsigh().powerPercent());
     }
 
     private int getThresholdWarn() {
-        return (int) (getMaxHold() * plugin.getConfigManager().getLegendaryConfig().getDouble("frostsigh.thresholds.warn_percent", 0.83));
+        return (int) (getMaxHold() * plugin.getConfigManager().getSettings().frostsigh().warnPercent());
     }
 
     public FrostsighAbility(StarryForge plugin) {
@@ -174,7 +175,7 @@ public class FrostsighAbility implements NexusAbility {
             // 1. Cooldown Check
             if (isCooldownActive(player)) {
                 long left = cooldowns.get(player.getUniqueId()) - System.currentTimeMillis();
-                player.sendActionBar(mm.deserialize("<red>技能冷却中: <bold>" + String.format("%.1f", left / 1000.0) + "秒</bold>"));
+                player.sendActionBar(HudText.parse("<red>技能冷却中: <bold>" + String.format("%.1f", left / 1000.0) + "秒</bold>"));
                 return; // Wait for cooldown, do not increment ticks or apply effects
             }
             
@@ -217,7 +218,7 @@ public class FrostsighAbility implements NexusAbility {
                     player.playSound(player.getLocation(), Sound.BLOCK_RESPAWN_ANCHOR_CHARGE, 1.0f, 1.5f); // Rising tone
                 }
                 
-                player.sendActionBar(mm.deserialize("<gradient:aqua:white><bold>⚡ READY ⚡</bold></gradient>"));
+                player.sendActionBar(HudText.parse("<gradient:aqua:white><bold>⚡ READY ⚡</bold></gradient>"));
                 
                 // Heartbeat Loop
                 if ((ticks - getThresholdReady()) % 20 == 0) {
@@ -234,7 +235,7 @@ public class FrostsighAbility implements NexusAbility {
                      player.playSound(player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 2.0f);
                 }
 
-                player.sendActionBar(mm.deserialize("<gradient:gold:yellow><bold>⚡ MAXIMUM POWER ⚡</bold></gradient>"));
+                player.sendActionBar(HudText.parse("<gradient:gold:yellow><bold>⚡ MAXIMUM POWER ⚡</bold></gradient>"));
                 
                 // Heartbeat Loop (Faster)
                 if ((ticks - getThresholdPower()) % 15 == 0) {
@@ -249,10 +250,10 @@ public class FrostsighAbility implements NexusAbility {
                 // Shaking Text (Fatigue)
                 // Alternate text to simulate shaking/trembling
                 if (ticks % 2 == 0) {
-                    player.sendActionBar(mm.deserialize("<gradient:red:dark_red><bold>⚠ EXHAUSTION IMMINENT ⚠</bold></gradient>"));
+                    player.sendActionBar(HudText.parse("<gradient:red:dark_red><bold>⚠ EXHAUSTION IMMINENT ⚠</bold></gradient>"));
                 } else {
                      // Offset slightly using spaces or just color shift
-                    player.sendActionBar(mm.deserialize("<gradient:dark_red:red> <bold>⚠ EXHAUSTION IMMINENT ⚠</bold> </gradient>"));
+                    player.sendActionBar(HudText.parse("<gradient:dark_red:red> <bold>⚠ EXHAUSTION IMMINENT ⚠</bold> </gradient>"));
                 }
                 
                 // Heartbeat Loop (Panic)
@@ -319,7 +320,7 @@ public class FrostsighAbility implements NexusAbility {
             } else {
                 // Fizzle: Not charged enough
                 player.playSound(player.getLocation(), Sound.BLOCK_FIRE_EXTINGUISH, 1.0f, 1.5f);
-                player.sendActionBar(mm.deserialize("<gray>专注中断...</gray>"));
+                player.sendActionBar(HudText.parse("<gray>专注中断...</gray>"));
                 // Add short internal cooldown to prevent spam loop if player keeps holding
                 cooldowns.put(player.getUniqueId(), System.currentTimeMillis() + 500); 
             }
@@ -351,8 +352,8 @@ public class FrostsighAbility implements NexusAbility {
         // Let's treat ATTACK_RANGE as a flat addition to dash distance.
         
         double baseDistance = empowered ? 
-            plugin.getConfigManager().getLegendaryConfig().getDouble("frostsigh.dash_distance.empowered", 18.0) : 
-            plugin.getConfigManager().getLegendaryConfig().getDouble("frostsigh.dash_distance.base", 12.0);
+            plugin.getConfigManager().getSettings().frostsigh().dashDistanceEmpowered() : 
+            plugin.getConfigManager().getSettings().frostsigh().dashDistanceBase();
         double maxDistance = baseDistance + (bonusRange > 0 ? bonusRange : 0);
         
         World world = player.getWorld();
@@ -449,8 +450,8 @@ public class FrostsighAbility implements NexusAbility {
         // Stage 2 (Ready): 1.5x Item Damage
         // Stage 3 (Empowered): 2.5x Item Damage
         double skillMultiplier = empowered ? 
-            plugin.getConfigManager().getLegendaryConfig().getDouble("frostsigh.damage_multipliers.empowered", 2.5) : 
-            plugin.getConfigManager().getLegendaryConfig().getDouble("frostsigh.damage_multipliers.ready", 1.5);
+            plugin.getConfigManager().getSettings().frostsigh().damageMultiplierEmpowered() : 
+            plugin.getConfigManager().getSettings().frostsigh().damageMultiplierReady();
         
         double damage = itemDamage * skillMultiplier;
 
@@ -478,9 +479,9 @@ public class FrostsighAbility implements NexusAbility {
             public void run() {
                 // Actionbar Hint (Dynamic)
                 if (tick % 10 < 5) {
-                    player.sendActionBar(mm.deserialize("<gradient:gold:yellow><bold>RIGHT CLICK TO SHATTER</bold></gradient>"));
+                    player.sendActionBar(HudText.parse("<gradient:gold:yellow><bold>RIGHT CLICK TO SHATTER</bold></gradient>"));
                 } else {
-                    player.sendActionBar(mm.deserialize("<gradient:yellow:gold><bold>» RIGHT CLICK TO SHATTER «</bold></gradient>"));
+                    player.sendActionBar(HudText.parse("<gradient:yellow:gold><bold>» RIGHT CLICK TO SHATTER «</bold></gradient>"));
                 }
                 
                 for (LivingEntity target : targets) {
@@ -514,7 +515,7 @@ public class FrostsighAbility implements NexusAbility {
         pendingShatters.put(player.getUniqueId(), new PendingShatterSession(targets, endLoc, autoShatter, visualTask, damage));
         
         // Initial Hint (handled by visualTask immediately, but safe to send once)
-        // player.sendActionBar(mm.deserialize("<gradient:gold:yellow><bold>RIGHT CLICK TO SHATTER</bold></gradient>"));
+        // player.sendActionBar(HudText.parse("<gradient:gold:yellow><bold>RIGHT CLICK TO SHATTER</bold></gradient>"));
     }
 
     public static void triggerShatterStatic(Player player) {
@@ -546,8 +547,7 @@ public class FrostsighAbility implements NexusAbility {
             int stacks = FrostMarkManager.getInstance().getStacks(target);
             
             // Configurable Multiplier
-            double bonusPerStack = com.starryforge.StarryForge.getInstance().getConfigManager().getLegendaryConfig()
-                .getDouble("frostsigh.passive.shatter_bonus_per_stack", 0.5);
+            double bonusPerStack = com.starryforge.StarryForge.getInstance().getConfigManager().getSettings().frostsigh().shatterBonusPerStack();
                 
             double multiplier = 1.0 + (stacks * bonusPerStack); // +X% per stack
             double finalDamage = baseDamage * multiplier;
@@ -569,7 +569,7 @@ public class FrostsighAbility implements NexusAbility {
         }
         
         // Feedback
-        player.sendActionBar(mm.deserialize("<gradient:aqua:gold>✧ 寂灭·断空 ✧</gradient>"));
+        player.sendActionBar(HudText.parse("<gradient:aqua:gold>✧ 寂灭·断空 ✧</gradient>"));
     }
 
     public void triggerShatter(Player player) {
@@ -27,7 +27,7 @@ public class FrostsighListener implements Listener {
 
     public static boolean isFrostsighOblivionStatic(ItemStack item) {
         if (item == null || !item.hasItemMeta()) return false;
-        String id = item.getItemMeta().getPersistentDataContainer().get(NexusKeys.ITEM_ID, PersistentDataType.STRING);
+        String id = item.getPersistentDataContainer().get(NexusKeys.ITEM_ID, PersistentDataType.STRING);
         // Map both legacy ID (if any) and new ID to be safe
         return "FROST_SIGH_BLADE".equals(id) || "FROSTSIGH_OBLIVION".equals(id);
     }
@@ -141,7 +141,7 @@ public class FrostsighListener implements Listener {
 
     private int getStarLevel(ItemStack item) {
         if (item == null || !item.hasItemMeta()) return 0;
-        Integer star = item.getItemMeta().getPersistentDataContainer().get(NexusKeys.STAR_RATING, PersistentDataType.INTEGER);
+        Integer star = item.getPersistentDataContainer().get(NexusKeys.STAR_RATING, PersistentDataType.INTEGER);
         return star != null ? star : 0;
     }
 
@@ -163,8 +163,8 @@ public class FrostsighListener implements Listener {
 
         // Passive: Frost Mark
         // Chance scales with Star Level (Configurable)
-        double baseChance = plugin.getConfigManager().getLegendaryConfig().getDouble("frostsigh.passive.base_chance", 0.10);
-        double chancePerStar = plugin.getConfigManager().getLegendaryConfig().getDouble("frostsigh.passive.chance_per_star", 0.0375);
+        double baseChance = plugin.getConfigManager().getSettings().frostsigh().passiveBaseChance();
+        double chancePerStar = plugin.getConfigManager().getSettings().frostsigh().passiveChancePerStar();
         double chance = baseChance + ((star - 1) * chancePerStar);
         
         // Stacks up to 10 times, each layer lasts 10s (decays one by one)
@@ -4,6 +4,7 @@ import com.nexuscore.util.NexusKeys;
 import com.nexuscore.rpg.ability.AbilityTrigger;
 import com.nexuscore.rpg.ability.NexusAbility;
 import com.starryforge.StarryForge;
+import com.starryforge.utils.HudText;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataType;
@@ -46,7 +47,7 @@ public class ShadowDaggerAbility implements NexusAbility {
         ItemStack item = player.getInventory().getItemInMainHand();
         if (item == null || !item.hasItemMeta()) return false;
         
-        Integer star = item.getItemMeta().getPersistentDataContainer().get(NexusKeys.STAR_RATING, PersistentDataType.INTEGER);
+        Integer star = item.getPersistentDataContainer().get(NexusKeys.STAR_RATING, PersistentDataType.INTEGER);
         return star != null && star >= 1;
     }
 
@@ -157,7 +158,7 @@ public class ShadowDaggerAbility implements NexusAbility {
                 // Check if it's time for a heartbeat
                 if (ticks >= nextHeartbeatTick) {
                     visuals.playHeartbeat(player);
-                    player.sendActionBar(mm.deserialize("<gradient:dark_red:red>... 咚 ... 咚 ...</gradient>"));
+                    player.sendActionBar(HudText.parse("<gradient:dark_red:red>... 咚 ... 咚 ...</gradient>"));
                     
                     // Schedule next heartbeat
                     nextHeartbeatTick = ticks + currentInterval;
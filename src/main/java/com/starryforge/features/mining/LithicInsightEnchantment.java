@@ -49,7 +49,7 @@ public class LithicInsightEnchantment {
 
     public static int getLevel(ItemStack item) {
         if (item == null || !item.hasItemMeta()) return 0;
-        return item.getItemMeta().getPersistentDataContainer().getOrDefault(KEY, PersistentDataType.INTEGER, 0);
+        return item.getPersistentDataContainer().getOrDefault(KEY, PersistentDataType.INTEGER, 0);
     }
 
     @SuppressWarnings("deprecation")
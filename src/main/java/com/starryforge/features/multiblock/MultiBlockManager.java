@@ -3,31 +3,78 @@ package com.starryforge.features.multiblock;
 import com.starryforge.StarryForge;
 import com.starryforge.utils.LogUtil;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
 import org.bukkit.Color;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.util.Vector;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 管理多方块结构的定义和检测。
+ * <p>
+ * 成功的检测结果会按核心方块位置缓存，直到结构范围内的方块被放置、破坏、
+ * 活塞推动、爆炸、烧毁或被流体覆盖时才失效，避免每 tick 重复遍历全部旋转。
+ * 所在区块或世界卸载时缓存也会被移除。
  */
-public class MultiBlockManager {
+public class MultiBlockManager implements Listener {
+    // 缓存命中后，超过该 tick 数会仅按已知朝向重新校验一次，兜底未触发事件的方块变化
+    private static final int REVALIDATE_INTERVAL_TICKS = 100;
+
     private final StarryForge plugin;
     private final Map<String, StructurePattern> patterns = new HashMap<>();
     private final MiniMessage mm = MiniMessage.miniMessage();
 
+    // 结构缓存：核心方块位置 -> 已验证的结构
+    private final Map<Location, CachedStructure> structureCache = new HashMap<>();
+    // 反向索引：结构范围内的方块位置 -> 引用它的核心方块位置
+    private final Map<Location, Set<Location>> footprintIndex = new HashMap<>();
+
+    private static class CachedStructure {
+        final String patternId;
+        final BlockFace facing;
+        final List<Location> footprint;
+        int validatedTick;
+
+        CachedStructure(String patternId, BlockFace facing, List<Location> footprint, int validatedTick) {
+            this.patternId = patternId;
+            this.facing = facing;
+            this.footprint = footprint;
+            this.validatedTick = validatedTick;
+        }
+    }
+
     public MultiBlockManager(StarryForge plugin) {
         this.plugin = plugin;
         registerPatterns();
     }
 
     public void reloadPatterns() {
+        invalidateAll();
         patterns.clear();
         registerPatterns();
         LogUtil.debug("Multiblock patterns reloaded. Total: " + patterns.size());
@@ -104,6 +151,7 @@ public class MultiBlockManager {
                     }
                 }
 
+                pattern.precompile();
                 patterns.put(key, pattern);
                 LogUtil.debug("Loaded multiblock pattern: " + key);
 
@@ -116,7 +164,7 @@ public class MultiBlockManager {
 
     /**
      * 检查指定核心方块周围是否存在有效的结构。
-     * 尝试所有4个基本方向。
+     * 尝试所有4个基本方向；命中缓存时直接返回已验证的方向。
      * 
      * @param coreBlock 核心方块 (例如: 高炉)
      * @param patternId 要检查的结构模式ID
@@ -127,15 +175,159 @@ public class MultiBlockManager {
         if (pattern == null)
             return null;
 
+        Location coreLoc = coreBlock.getLocation();
+        CachedStructure cached = structureCache.get(coreLoc);
+        if (cached != null && cached.patternId.equals(patternId)) {
+            int now = Bukkit.getCurrentTick();
+            if (now - cached.validatedTick < REVALIDATE_INTERVAL_TICKS) {
+                return cached.facing;
+            }
+            if (pattern.check(coreBlock, cached.facing)) {
+                cached.validatedTick = now;
+                return cached.facing;
+            }
+            invalidate(coreLoc);
+        }
+
         BlockFace[] faces = { BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST };
         for (BlockFace face : faces) {
             if (pattern.check(coreBlock, face)) {
+                cacheStructure(coreLoc, coreBlock, patternId, pattern, face);
                 return face;
             }
         }
         return null;
     }
 
+    private void cacheStructure(Location coreLoc, Block coreBlock, String patternId, StructurePattern pattern,
+            BlockFace face) {
+        invalidate(coreLoc);
+        List<Location> footprint = new java.util.ArrayList<>();
+        for (Block block : pattern.getFootprint(coreBlock, face)) {
+            Location loc = block.getLocation();
+            footprint.add(loc);
+            footprintIndex.computeIfAbsent(loc, k -> new HashSet<>()).add(coreLoc);
+        }
+        structureCache.put(coreLoc, new CachedStructure(patternId, face, footprint, Bukkit.getCurrentTick()));
+    }
+
+    private void invalidate(Location coreLoc) {
+        CachedStructure removed = structureCache.remove(coreLoc);
+        if (removed == null)
+            return;
+        for (Location loc : removed.footprint) {
+            Set<Location> cores = footprintIndex.get(loc);
+            if (cores != null) {
+                cores.remove(coreLoc);
+                if (cores.isEmpty()) {
+                    footprintIndex.remove(loc);
+                }
+            }
+        }
+    }
+
+    /**
+     * 使所有覆盖该方块的结构缓存失效。
+     */
+    public void invalidateAt(Block block) {
+        if (footprintIndex.isEmpty())
+            return;
+        Set<Location> cores = footprintIndex.get(block.getLocation());
+        if (cores == null)
+            return;
+        for (Location coreLoc : new java.util.ArrayList<>(cores)) {
+            invalidate(coreLoc);
+        }
+    }
+
+    public void invalidateAll() {
+        structureCache.clear();
+        footprintIndex.clear();
+    }
+
+    // --- 缓存失效事件 ---
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        invalidateAt(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        invalidateAt(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        invalidateAt(event.getBlock().getRelative(event.getDirection()));
+        for (Block block : event.getBlocks()) {
+            invalidateAt(block);
+            invalidateAt(block.getRelative(event.getDirection()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        invalidateAt(event.getBlock().getRelative(event.getDirection().getOppositeFace()));
+        for (Block block : event.getBlocks()) {
+            invalidateAt(block);
+            invalidateAt(block.getRelative(event.getDirection()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        for (Block block : event.blockList()) {
+            invalidateAt(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        invalidateAt(event.getBlock());
+        for (Block block : event.blockList()) {
+            invalidateAt(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        invalidateAt(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFluidFlow(BlockFromToEvent event) {
+        invalidateAt(event.getToBlock());
+    }
+
+    // 区块/世界卸载时丢弃相关缓存，避免缓存无限增长并持有已卸载的 World
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        if (structureCache.isEmpty())
+            return;
+        Chunk chunk = event.getChunk();
+        for (Map.Entry<Location, CachedStructure> entry : new java.util.ArrayList<>(structureCache.entrySet())) {
+            if (isInChunk(entry.getKey(), chunk)
+                    || entry.getValue().footprint.stream().anyMatch(loc -> isInChunk(loc, chunk))) {
+                invalidate(entry.getKey());
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        World world = event.getWorld();
+        structureCache.keySet().removeIf(loc -> world.equals(loc.getWorld()));
+        footprintIndex.keySet().removeIf(loc -> world.equals(loc.getWorld()));
+    }
+
+    private static boolean isInChunk(Location loc, Chunk chunk) {
+        return chunk.getWorld().equals(loc.getWorld())
+                && loc.getBlockX() >> 4 == chunk.getX()
+                && loc.getBlockZ() >> 4 == chunk.getZ();
+    }
+
     public java.util.List<Block> getStructureBlocks(Block coreBlock, String patternId, BlockFace face) {
         StructurePattern pattern = patterns.get(patternId);
         if (pattern == null)
@@ -146,7 +338,8 @@ public class MultiBlockManager {
     public void debugStructure(Player player, Block coreBlock, String patternId) {
         StructurePattern pattern = patterns.get(patternId);
         if (pattern == null) {
-            String msg = plugin.getConfigManager().getMessage("multiblock.unknown_id").replace("{id}", patternId);
+            String msg = plugin.getConfigManager().getMessage(player, "multiblock.unknown_id")
+                    .replace("{id}", patternId);
             player.sendMessage(mm.deserialize(msg));
             return;
         }
@@ -167,10 +360,10 @@ public class MultiBlockManager {
         }
 
         if (bestMismatches != null && !bestMismatches.isEmpty()) {
-            String incompleteMsg = plugin.getConfigManager().getMessage("multiblock.incomplete").replace("{face}",
-                    bestFace.name());
+            String incompleteMsg = plugin.getConfigManager().getMessage(player, "multiblock.incomplete")
+                    .replace("{face}", bestFace.name());
             player.sendMessage(mm.deserialize(incompleteMsg));
-            player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("multiblock.particle_hint")));
+            player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "multiblock.particle_hint"));
 
             int count = 0;
             for (Map.Entry<Block, String> entry : bestMismatches.entrySet()) {
@@ -182,7 +375,7 @@ public class MultiBlockManager {
                         10, 0.2, 0.2, 0.2, 0, new Particle.DustOptions(Color.RED, 1.0f));
 
                 if (count < 5) {
-                    String blockError = plugin.getConfigManager().getMessage("multiblock.block_error")
+                    String blockError = plugin.getConfigManager().getMessage(player, "multiblock.block_error")
                             .replace("{x}", String.valueOf(block.getX()))
                             .replace("{y}", String.valueOf(block.getY()))
                             .replace("{z}", String.valueOf(block.getZ()))
@@ -192,12 +385,12 @@ public class MultiBlockManager {
                 count++;
             }
             if (count > 5) {
-                String moreErrors = plugin.getConfigManager().getMessage("multiblock.more_errors")
+                String moreErrors = plugin.getConfigManager().getMessage(player, "multiblock.more_errors")
                         .replace("{count}", String.valueOf(count - 5));
                 player.sendMessage(mm.deserialize(moreErrors));
             }
         } else {
-            player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("multiblock.complete")));
+            player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "multiblock.complete"));
         }
     }
 
@@ -5,7 +5,10 @@ import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.util.Vector;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -17,28 +20,145 @@ public class StructurePattern {
     private final String[][] layers; // [y][z] -> x 是字符索引
     private final Map<Character, Predicate<Block>> matchers = new HashMap<>();
     private final Map<Character, String> matcherDescriptions = new HashMap<>();
+    private final Map<Character, Material> matcherMaterials = new HashMap<>(); // 纯材质匹配器，可直接比较类型
     private final Vector coreOffset; // 核心方块在模式中的相对位置 (x, y, z)
 
+    // 预编译的检测表，matchers 变化时置空并在下次检测时重建
+    private Compiled compiled;
+
+    /**
+     * 预编译的偏移表。
+     * offsets[facing] 为扁平的 {dx, dy, dz, dx, dy, dz, ...}，与 matcherIndex 一一对应。
+     * 单元格按符号稀有度排序（核心方块最先），使错误朝向在前一两次查询内被排除。
+     */
+    private static final class Compiled {
+        final int[][] offsets;
+        final int[] matcherIndex;
+        final Material[] materials; // 非 null 时直接比较方块类型
+        final Predicate<Block>[] predicates;
+
+        Compiled(int[][] offsets, int[] matcherIndex, Material[] materials, Predicate<Block>[] predicates) {
+            this.offsets = offsets;
+            this.matcherIndex = matcherIndex;
+            this.materials = materials;
+            this.predicates = predicates;
+        }
+    }
+
+    private static final BlockFace[] FACINGS = { BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST };
+
     public StructurePattern(String[][] layers, Vector coreOffset) {
         this.layers = layers;
         this.coreOffset = coreOffset;
         // 默认的空气匹配器
         matchers.put(' ', block -> block.getType() == Material.AIR);
         matcherDescriptions.put(' ', "AIR");
+        matcherMaterials.put(' ', Material.AIR);
     }
 
     public StructurePattern addMatcher(char symbol, Material material) {
         matchers.put(symbol, block -> block.getType() == material);
         matcherDescriptions.put(symbol, material.name());
+        matcherMaterials.put(symbol, material);
+        compiled = null;
         return this;
     }
     
     public StructurePattern addMatcher(char symbol, Predicate<Block> predicate, String description) {
         matchers.put(symbol, predicate);
         matcherDescriptions.put(symbol, description);
+        matcherMaterials.remove(symbol);
+        compiled = null;
         return this;
     }
 
+    /**
+     * 将字符矩阵编译为每个朝向的偏移数组。
+     */
+    @SuppressWarnings("unchecked")
+    private Compiled compile() {
+        int height = layers.length;
+        int depth = layers[0].length;
+        int width = layers[0][0].length(); // 假设所有字符串长度相同
+
+        // 统计每个符号出现次数，用于稀有度排序
+        Map<Character, Integer> frequency = new HashMap<>();
+        List<int[]> cells = new ArrayList<>(); // {relX, relY, relZ, symbol}
+        // 我们遍历模式坐标 (px, py, pz)
+        // 并根据 'facing' 将它们映射到世界坐标
+        for (int py = 0; py < height; py++) {
+            for (int pz = 0; pz < depth; pz++) {
+                String row = layers[py][pz];
+                for (int px = 0; px < width; px++) {
+                    char symbol = row.charAt(px);
+                    if (!matchers.containsKey(symbol))
+                        continue; // 跳过未定义的符号（或视为任意？） -> 最好严格
+                    frequency.merge(symbol, 1, Integer::sum);
+                    // 计算模式空间中相对于核心方块的偏移
+                    cells.add(new int[] { px - coreOffset.getBlockX(), py - coreOffset.getBlockY(),
+                            pz - coreOffset.getBlockZ(), symbol });
+                }
+            }
+        }
+
+        cells.sort(Comparator
+                .<int[]>comparingInt(c -> (c[0] == 0 && c[1] == 0 && c[2] == 0) ? 0 : 1)
+                .thenComparingInt(c -> frequency.get((char) c[3])));
+
+        List<Character> symbols = new ArrayList<>(frequency.keySet());
+        Material[] materials = new Material[symbols.size()];
+        Predicate<Block>[] predicates = new Predicate[symbols.size()];
+        for (int i = 0; i < symbols.size(); i++) {
+            materials[i] = matcherMaterials.get(symbols.get(i));
+            predicates[i] = matchers.get(symbols.get(i));
+        }
+
+        int[] matcherIndex = new int[cells.size()];
+        int[][] offsets = new int[FACINGS.length][cells.size() * 3];
+        for (int i = 0; i < cells.size(); i++) {
+            int[] cell = cells.get(i);
+            matcherIndex[i] = symbols.indexOf((char) cell[3]);
+            for (int f = 0; f < FACINGS.length; f++) {
+                // 根据朝向将相对偏移转换为世界偏移
+                Vector v = rotate(cell[0], cell[1], cell[2], FACINGS[f]);
+                offsets[f][i * 3] = v.getBlockX();
+                offsets[f][i * 3 + 1] = v.getBlockY();
+                offsets[f][i * 3 + 2] = v.getBlockZ();
+            }
+        }
+        return new Compiled(offsets, matcherIndex, materials, predicates);
+    }
+
+    /**
+     * 在加载阶段预先编译检测表，避免首次检测时才构建。
+     */
+    public void precompile() {
+        compiled = compile();
+    }
+
+    private Compiled compiled() {
+        Compiled c = compiled;
+        if (c == null) {
+            c = compile();
+            compiled = c;
+        }
+        return c;
+    }
+
+    private static int facingIndex(BlockFace facing) {
+        switch (facing) {
+            case EAST:
+                return 1;
+            case SOUTH:
+                return 2;
+            case WEST:
+                return 3;
+            default:
+                // 与 rotate() 一致：非水平朝向按 NORTH 处理
+                return 0;
+        }
+    }
+
     /**
      * 分析结构并返回不匹配方块（世界坐标）及其预期描述的映射。
      */
@@ -75,42 +195,27 @@ public class StructurePattern {
     public boolean check(Block coreBlock, BlockFace facing) {
         // 计算原点（基于旋转的左前下角），基于 coreOffset
         // 但更简单的方法是：相对于 coreBlock 进行迭代
-        
+
         // 1. 根据 BlockFace 确定旋转矩阵/变换
         // 标准定义通常是朝向 NORTH (-Z)
-        
-        int height = layers.length;
-        int depth = layers[0].length;
-        int width = layers[0][0].length(); // 假设所有字符串长度相同
+        // 偏移已在 compile() 中按朝向预先旋转，这里直接取对应朝向的偏移表
+        Compiled c = compiled();
+        int[] offsets = c.offsets[facingIndex(facing)];
+        int[] matcherIndex = c.matcherIndex;
 
-        // 我们遍历模式坐标 (px, py, pz)
-        // 并根据 'facing' 将它们映射到世界坐标
-        
-        for (int py = 0; py < height; py++) {
-            for (int pz = 0; pz < depth; pz++) {
-                String row = layers[py][pz];
-                for (int px = 0; px < width; px++) {
-                    char symbol = row.charAt(px);
-                    Predicate<Block> matcher = matchers.get(symbol);
-                    if (matcher == null) continue; // 跳过未定义的符号（或视为任意？） -> 最好严格
-                    
-                    // 计算模式空间中相对于核心方块的偏移
-                    int relX = px - coreOffset.getBlockX();
-                    int relY = py - coreOffset.getBlockY();
-                    int relZ = pz - coreOffset.getBlockZ();
-                    
-                    // 根据朝向将相对偏移转换为世界偏移
-                    Vector worldOffset = rotate(relX, relY, relZ, facing);
-                    
-                    Block targetBlock = coreBlock.getRelative(worldOffset.getBlockX(), worldOffset.getBlockY(), worldOffset.getBlockZ());
-                    
-                    if (!matcher.test(targetBlock)) {
-                        return false;
-                    }
+        for (int i = 0; i < matcherIndex.length; i++) {
+            int o = i * 3;
+            Block targetBlock = coreBlock.getRelative(offsets[o], offsets[o + 1], offsets[o + 2]);
+            int m = matcherIndex[i];
+            Material expected = c.materials[m];
+            if (expected != null) {
+                if (targetBlock.getType() != expected) {
+                    return false;
                 }
+            } else if (!c.predicates[m].test(targetBlock)) {
+                return false;
             }
         }
-        
         return true;
     }
 
@@ -142,6 +247,19 @@ public class StructurePattern {
         return blocks;
     }
 
+    /**
+     * 获取结构检测时会读取的全部方块（包含空气格）。
+     * 用于结构缓存的失效范围：任何一格发生变化都可能改变检测结果。
+     */
+    public java.util.List<Block> getFootprint(Block coreBlock, BlockFace facing) {
+        int[] offsets = compiled().offsets[facingIndex(facing)];
+        java.util.List<Block> blocks = new java.util.ArrayList<>(offsets.length / 3);
+        for (int o = 0; o < offsets.length; o += 3) {
+            blocks.add(coreBlock.getRelative(offsets[o], offsets[o + 1], offsets[o + 2]));
+        }
+        return blocks;
+    }
+
     /**
      * 根据朝向旋转相对向量。
      * 假设模式是面向 NORTH 定义的。
@@ -2,6 +2,8 @@ package com.starryforge.features.resonator;
 
 import com.starryforge.StarryForge;
 import com.starryforge.features.core.NoiseManager;
+import com.starryforge.features.core.PerfMonitor;
+import com.starryforge.utils.HudText;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Location;
 import org.bukkit.Sound;
@@ -33,11 +35,11 @@ public class ResonatorManager {
         UUID uuid = player.getUniqueId();
         if (activeTasks.containsKey(uuid)) {
             stopResonator(uuid);
-            player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("resonator.toggle_off")));
+            player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "resonator.toggle_off"));
             player.playSound(player.getLocation(), Sound.BLOCK_BEACON_DEACTIVATE, 1.0f, 0.5f);
         } else {
             startResonator(player);
-            player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("resonator.toggle_on")));
+            player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "resonator.toggle_on"));
             player.playSound(player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 1.0f);
         }
     }
@@ -68,15 +70,21 @@ public class ResonatorManager {
                 if (!hasResonator) {
                      this.cancel();
                      activeTasks.remove(player.getUniqueId());
-                     player.sendMessage(mm.deserialize(plugin.getConfigManager().getMessage("resonator.toggle_off")));
+                     player.sendMessage(plugin.getConfigManager().getMessageComponent(player, "resonator.toggle_off"));
                      return;
                 }
 
-                Location loc = player.getLocation();
-                double potency = noiseManager.getRawPotency(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
-                
-                playRadarSound(player, potency);
-                sendTechnicalFeedback(player, potency);
+                PerfMonitor perf = plugin.getPerfMonitor();
+                perf.begin(PerfMonitor.Section.RESONATORS);
+                try {
+                    Location loc = player.getLocation();
+                    double potency = noiseManager.getRawPotency(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+
+                    playRadarSound(player, potency);
+                    sendTechnicalFeedback(player, potency);
+                } finally {
+                    perf.end(PerfMonitor.Section.RESONATORS);
+                }
             }
         };
         
@@ -108,32 +116,30 @@ public class ResonatorManager {
         double weak = plugin.getConfigManager().getDouble("resonator.thresholds.weak", 0.3);
 
         if (potency > critical) {
-            signalStatus = plugin.getConfigManager().getMessage("resonator.status.critical");
+            signalStatus = plugin.getConfigManager().getMessage(player, "resonator.status.critical");
             colorTag = "<dark_red><b>";
         } else if (potency > high) {
-            signalStatus = plugin.getConfigManager().getMessage("resonator.status.high");
+            signalStatus = plugin.getConfigManager().getMessage(player, "resonator.status.high");
             colorTag = "<red>";
         } else if (potency > weak) {
-            signalStatus = plugin.getConfigManager().getMessage("resonator.status.weak");
+            signalStatus = plugin.getConfigManager().getMessage(player, "resonator.status.weak");
             colorTag = "<yellow>";
         } else {
-            signalStatus = plugin.getConfigManager().getMessage("resonator.status.none");
+            signalStatus = plugin.getConfigManager().getMessage(player, "resonator.status.none");
             colorTag = "<gray>";
         }
 
         double flux = (System.currentTimeMillis() % 1000) / 100.0;
-        String format = plugin.getConfigManager().getMessage("resonator.tech_data_format");
+        String format = plugin.getConfigManager().getMessage(player, "resonator.tech_data_format");
 
         String techData = String.format(format, 
             (potency * 100) + flux, 
             (Math.random() * 360)
         );
 
-        String msgTemplate = plugin.getConfigManager().getMessage("resonator.actionbar");
-        String message = msgTemplate
-            .replace("{color}", colorTag)
-            .replace("{status}", signalStatus)
-            .replace("{tech_data}", techData);
+        // tech_data 每次都不同，只复用模板拆分，不缓存渲染结果
+        String message = HudText.template(plugin.getConfigManager().getMessage(player, "resonator.actionbar"))
+            .fill("color", colorTag, "status", signalStatus, "tech_data", techData);
             
         player.sendActionBar(mm.deserialize(message));
     }
@@ -145,15 +145,13 @@ public class SluiceListener implements Listener {
                                     }
                                 } else {
                                     if (event.getWhoClicked() instanceof org.bukkit.entity.Player player) {
-                                        String msg = StarryForge.getInstance().getConfigManager().getMessage("sluice.missing_material");
-                                        player.sendMessage(net.kyori.adventure.text.minimessage.MiniMessage.miniMessage().deserialize(msg));
+                                        player.sendMessage(StarryForge.getInstance().getConfigManager().getMessageComponent(player, "sluice.missing_material"));
                                         player.playSound(player.getLocation(), org.bukkit.Sound.BLOCK_NOTE_BLOCK_BASS, 1f, 0.5f);
                                     }
                                 }
                             } else {
                                 if (event.getWhoClicked() instanceof org.bukkit.entity.Player player) {
-                                    String msg = StarryForge.getInstance().getConfigManager().getMessage("sluice.already_running");
-                                    player.sendMessage(net.kyori.adventure.text.minimessage.MiniMessage.miniMessage().deserialize(msg));
+                                    player.sendMessage(StarryForge.getInstance().getConfigManager().getMessageComponent(player, "sluice.already_running"));
                                 }
                             }
                         }
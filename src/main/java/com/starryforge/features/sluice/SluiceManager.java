@@ -1,6 +1,7 @@
 package com.starryforge.features.sluice;
 
 import com.starryforge.StarryForge;
+import com.starryforge.features.core.PerfMonitor;
 import com.starryforge.utils.Keys;
 import com.starryforge.utils.LogUtil;
 import net.kyori.adventure.text.Component;
@@ -10,12 +11,16 @@ import org.bukkit.Material;
 import org.bukkit.block.Barrel;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
+import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
 import org.bukkit.event.world.ChunkLoadEvent;
 import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataContainer;
@@ -23,15 +28,16 @@ import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class SluiceManager implements Listener {
 
     private final StarryForge plugin;
-    // 活跃会话：区块已加载且正在运行
-    private final Map<Location, SluiceSession> activeSessions = new ConcurrentHashMap<>();
-    // 挂起会话：区块已卸载，等待加载
-    private final Map<Location, SluiceSession> pendingSessions = new ConcurrentHashMap<>();
+    // 会话注册表：按世界/区块索引，活跃会话挂在时间轮上
+    private final SluiceRegistry registry = new SluiceRegistry();
+    // 定时器已运行的秒数，时间轮的时钟
+    private long currentSecond = 0;
+    // 查看者索引：洗矿台位置 -> 正在查看其 Barrel 界面的玩家
+    private final Map<Location, Set<Player>> viewers = new HashMap<>();
 
     private final Random random = new Random();
     private final MiniMessage mm = MiniMessage.miniMessage();
@@ -48,14 +54,20 @@ public class SluiceManager implements Listener {
             18, 19, 20, 21, 22, 23, 24, 25, 26);
 
     // Session 定义
-    private static class SluiceSession {
-        int time;
+    static class SluiceSession {
+        final Location location;
+        int time; // 剩余秒数，仅在持久化/挂起时与 dueSecond 同步
         int maxTime;
         int stars;
         boolean hasSolvent;
         int tier;
 
-        public SluiceSession(int time, int maxTime, int stars, boolean hasSolvent, int tier) {
+        // 时间轮调度信息 (由 SluiceRegistry 维护)
+        long dueSecond;
+        int wheelSlot = -1;
+
+        public SluiceSession(Location location, int time, int maxTime, int stars, boolean hasSolvent, int tier) {
+            this.location = location;
             this.time = time;
             this.maxTime = maxTime;
             this.stars = stars;
@@ -74,98 +86,135 @@ public class SluiceManager implements Listener {
         new BukkitRunnable() {
             @Override
             public void run() {
-                // 直接遍历 ConcurrentHashMap 是安全的
-                for (Map.Entry<Location, SluiceSession> entry : activeSessions.entrySet()) {
-                    Location loc = entry.getKey();
-                    SluiceSession session = entry.getValue();
-
-                    // 1. 检查区块加载状态
-                    if (!loc.isChunkLoaded()) {
-                        pendingSessions.put(loc, session);
-                        activeSessions.remove(loc);
-                        continue;
-                    }
-
-                    Block block = loc.getBlock();
-                    if (!(block.getState() instanceof Barrel)) {
-                        activeSessions.remove(loc);
-                        continue;
-                    }
-
-                    // 获取 Snapshot
-                    Barrel barrel = (Barrel) block.getState();
-
-                    // 尝试获取 Live Inventory (玩家正在打开的)
-                    Inventory liveInv = getLiveInventory(loc);
-                    Inventory workingInv = (liveInv != null) ? liveInv : barrel.getInventory();
-
-                    // tickSession 处理逻辑
-                    // 注意：这里传入 workingInv 用于物品操作，barrel 用于 PDC 操作
-                    tickSession(loc, session, workingInv, barrel, liveInv != null);
+                PerfMonitor perf = plugin.getPerfMonitor();
+                perf.begin(PerfMonitor.Section.SLUICE);
+                try {
+                    tickSessions();
+                } finally {
+                    perf.end(PerfMonitor.Section.SLUICE);
                 }
             }
         }.runTaskTimer(plugin, 20L, 20L); // 1秒 tick 一次
     }
 
-    private Inventory getLiveInventory(Location loc) {
-        for (org.bukkit.entity.Player p : org.bukkit.Bukkit.getOnlinePlayers()) {
-            InventoryView view = p.getOpenInventory();
-            Inventory top = view.getTopInventory();
-            if (top.getHolder() instanceof BlockState) {
-                BlockState holder = (BlockState) top.getHolder();
-                if (holder.getWorld().getName().equals(loc.getWorld().getName()) &&
-                        holder.getX() == loc.getX() &&
-                        holder.getY() == loc.getY() &&
-                        holder.getZ() == loc.getZ()) {
-                    return top;
-                }
+    /**
+     * 每秒一次：处理本秒到期的洗矿会话
+     */
+    private void tickSessions() {
+        currentSecond++;
+
+        // 只处理本秒到期的会话
+        for (SluiceSession session : registry.pollDue(currentSecond)) {
+            Location loc = session.location;
+
+            // 1. 检查区块加载状态
+            if (!loc.isChunkLoaded()) {
+                registry.removeActive(loc);
+                session.time = 0;
+                registry.addPending(session);
+                continue;
+            }
+
+            Block block = loc.getBlock();
+            if (!(block.getState() instanceof Barrel)) {
+                registry.removeActive(loc);
+                continue;
             }
+
+            // 获取 Snapshot
+            Barrel barrel = (Barrel) block.getState();
+
+            // 尝试获取 Live Inventory (玩家正在打开的)
+            Inventory liveInv = getLiveInventory(loc);
+            Inventory workingInv = (liveInv != null) ? liveInv : barrel.getInventory();
+
+            // tickSession 处理逻辑
+            // 注意：这里传入 workingInv 用于物品操作，barrel 用于 PDC 操作
+            tickSession(loc, session, workingInv, barrel, liveInv != null);
         }
-        return null;
+
+        // 倒计时只对正在查看的玩家可见，未被查看的洗矿台在打开时再刷新
+        refreshViewedProgress();
     }
 
-    // 强制同步视图给所有观察者 (仅当 workingInv 是 Snapshot 时需要，如果是 Live 则自带同步)
-    private void syncView(Location loc, Inventory snapshotInv) {
-        // ... (保留现有逻辑，作为 fallback)
-        for (org.bukkit.entity.Player p : org.bukkit.Bukkit.getOnlinePlayers()) {
-            InventoryView view = p.getOpenInventory();
-            Inventory top = view.getTopInventory();
-            if (top.getHolder() instanceof BlockState) {
-                BlockState holder = (BlockState) top.getHolder();
-                if (holder.getWorld().getName().equals(loc.getWorld().getName()) &&
-                        holder.getX() == loc.getX() &&
-                        holder.getY() == loc.getY() &&
-                        holder.getZ() == loc.getZ()) {
-
-                    // 只有当 snapshotInv 内容不同于 top 时才同步，避免闪烁
-                    // 但为保险起见，这里强制覆盖
-                    top.setContents(snapshotInv.getContents());
-                    p.updateInventory();
-                }
+    private int remainingSeconds(SluiceSession session) {
+        return (int) Math.max(0, session.dueSecond - currentSecond);
+    }
+
+    private void refreshViewedProgress() {
+        for (Map.Entry<Location, Set<Player>> entry : viewers.entrySet()) {
+            SluiceSession session = registry.getActive(entry.getKey());
+            if (session != null && !entry.getValue().isEmpty()) {
+                // 所有查看者共享同一个方块库存，刷新一次即可
+                Inventory top = entry.getValue().iterator().next().getOpenInventory().getTopInventory();
+                updateProgressBar(top, remainingSeconds(session), session.maxTime);
             }
         }
     }
 
-    // 核心逻辑
-    private boolean tickSession(Location loc, SluiceSession session, Inventory inv, Barrel barrel, boolean isLive) {
-        boolean dirty = false;
-        boolean needsSave = false; // 是否需要写入世界
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        Inventory top = event.getInventory();
+        if (!(top.getHolder(false) instanceof Barrel barrel)
+                || !barrel.getPersistentDataContainer().has(Keys.SLUICE_MACHINE, PersistentDataType.BYTE))
+            return;
+        Location loc = top.getLocation();
+        if (loc == null || !(event.getPlayer() instanceof Player player))
+            return;
 
-        // 1. 减少时间
-        if (session.time > 0) {
-            session.time--;
-            updateProgressBar(inv, session.time, session.maxTime);
-            dirty = true;
+        viewers.computeIfAbsent(loc, k -> new LinkedHashSet<>()).add(player);
+
+        SluiceSession session = registry.getActive(loc);
+        if (session != null) {
+            updateProgressBar(top, remainingSeconds(session), session.maxTime);
         }
+    }
 
-        // 2. 周期完成
-        if (session.time <= 0) {
-            boolean cycleDirty = finishCycle(loc, session, inv, barrel);
-            if (cycleDirty) {
-                dirty = true;
-                needsSave = true;
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        if (viewers.isEmpty())
+            return;
+        Location loc = event.getInventory().getLocation();
+        if (loc == null)
+            return;
+        Set<Player> set = viewers.get(loc);
+        if (set != null) {
+            set.remove(event.getPlayer());
+            if (set.isEmpty()) {
+                viewers.remove(loc);
             }
         }
+    }
+
+    private Inventory getLiveInventory(Location loc) {
+        Set<Player> set = viewers.get(loc);
+        if (set == null || set.isEmpty())
+            return null;
+        Inventory top = set.iterator().next().getOpenInventory().getTopInventory();
+        InventoryHolder holder = top.getHolder(false);
+        return holder instanceof Barrel ? top : null;
+    }
+
+    // 强制同步视图给所有观察者 (仅当 workingInv 是 Snapshot 时需要，如果是 Live 则自带同步)
+    private void syncView(Location loc, Inventory snapshotInv) {
+        Set<Player> set = viewers.get(loc);
+        if (set == null)
+            return;
+        for (Player p : set) {
+            Inventory top = p.getOpenInventory().getTopInventory();
+            // 只有当 snapshotInv 内容不同于 top 时才同步，避免闪烁
+            // 但为保险起见，这里强制覆盖
+            top.setContents(snapshotInv.getContents());
+            p.updateInventory();
+        }
+    }
+
+    // 核心逻辑：仅在会话到期（周期完成）时调用
+    private boolean tickSession(Location loc, SluiceSession session, Inventory inv, Barrel barrel, boolean isLive) {
+        session.time = 0;
+
+        // 周期完成
+        boolean dirty = finishCycle(loc, session, inv, barrel);
 
         if (dirty) {
             // 更新 PDC (必须操作 Snapshot)
@@ -177,36 +226,28 @@ public class SluiceManager implements Listener {
                 barrel.getInventory().setContents(inv.getContents());
             }
 
-            // 执行存盘
-            // 1. 如果 needsSave=true (物品变了)，必须存盘
-            // 2. 如果只是倒计时更新 (dirty=true)，不要频繁调用 update(true)，否则会导致客户端 GUI 闪烁或回滚
-            // 3. PDC 的持久化推迟到 needsSave 或 ChunkUnload
-
-            if (needsSave) {
-                // 统一强制刷新策略：无论 Live 还是 Snapshot，都获取最新的 BlockState 进行保存
-                // 这解决了 Snapshot 模式下 update(true) 可能无效的问题
-                BlockState newState = loc.getBlock().getState();
-                if (newState instanceof Barrel) {
-                    Barrel newBarrel = (Barrel) newState;
-
-                    // 1. 同步物品：将当前内存中的 Inventory (inv) 状态复制到新的 Snapshot 中
-                    // inv 可能是 LiveInv (最新的)，也可能是 tick 开始时的 SnapshotInv (我们刚才修改过的)
-                    // 无论哪种，inv 都包含了我们期望的最新物品状态
-                    newBarrel.getInventory().setContents(inv.getContents());
-
-                    // 2. 同步 PDC
-                    applySessionToPdc(newBarrel.getPersistentDataContainer(), session);
-
-                    // 3. 强制写入世界
-                    boolean success = newBarrel.update(true);
-                    if (success) {
-                        LogUtil.debug("Saved sluice state (Force Refresh) at " + loc);
-                    } else {
-                        plugin.getLogger().warning("Failed to save sluice state (Force Refresh) at " + loc);
-                    }
+            // 物品发生变化，必须存盘
+            // 统一强制刷新策略：无论 Live 还是 Snapshot，都获取最新的 BlockState 进行保存
+            // 这解决了 Snapshot 模式下 update(true) 可能无效的问题
+            BlockState newState = loc.getBlock().getState();
+            if (newState instanceof Barrel) {
+                Barrel newBarrel = (Barrel) newState;
+
+                // 1. 同步物品：将当前内存中的 Inventory (inv) 状态复制到新的 Snapshot 中
+                // inv 可能是 LiveInv (最新的)，也可能是 tick 开始时的 SnapshotInv (我们刚才修改过的)
+                // 无论哪种，inv 都包含了我们期望的最新物品状态
+                newBarrel.getInventory().setContents(inv.getContents());
+
+                // 2. 同步 PDC
+                applySessionToPdc(newBarrel.getPersistentDataContainer(), session);
+
+                // 3. 强制写入世界
+                boolean success = newBarrel.update(true);
+                if (success) {
+                    LogUtil.debug("Saved sluice state (Force Refresh) at " + loc);
+                } else {
+                    plugin.getLogger().warning("Failed to save sluice state (Force Refresh) at " + loc);
                 }
-            } else {
-                // 仅倒计时更新，不需要存盘
             }
 
             // 如果不是 Live Inventory，我们需要手动同步视图
@@ -257,9 +298,9 @@ public class SluiceManager implements Listener {
 
         // 准备下一轮数据
         int stars = 1;
-        if (inputItem.getItemMeta().getPersistentDataContainer().has(Keys.CLUSTER_QUALITY_KEY,
+        if (inputItem.getPersistentDataContainer().has(Keys.CLUSTER_QUALITY_KEY,
                 PersistentDataType.INTEGER)) {
-            int val = inputItem.getItemMeta().getPersistentDataContainer().get(Keys.CLUSTER_QUALITY_KEY,
+            int val = inputItem.getPersistentDataContainer().get(Keys.CLUSTER_QUALITY_KEY,
                     PersistentDataType.INTEGER);
             if (val <= 5)
                 stars = val;
@@ -272,7 +313,7 @@ public class SluiceManager implements Listener {
             hasSolvent = true;
         }
 
-        int seconds = plugin.getConfigManager().getInt("machines.sluice.processing_times.tier_" + stars, 20);
+        int seconds = plugin.getConfigManager().getSettings().sluice().processingSeconds(stars);
 
         // 扣除物品 (直接操作 Inventory)
         if (inputItem.getAmount() <= 1) {
@@ -298,6 +339,7 @@ public class SluiceManager implements Listener {
         session.maxTime = seconds;
         session.stars = stars;
         session.hasSolvent = hasSolvent;
+        registry.reschedule(session, currentSecond + Math.max(1, seconds));
 
         updateProgressBar(inv, seconds, seconds);
 
@@ -312,7 +354,7 @@ public class SluiceManager implements Listener {
 
     private void stopSession(Location loc, Inventory inv, Barrel barrel) {
         LogUtil.debug("Stopping sluice at " + loc);
-        activeSessions.remove(loc);
+        registry.removeActive(loc);
         resetProgressBar(inv);
 
         // 清除 PDC
@@ -327,7 +369,7 @@ public class SluiceManager implements Listener {
         Location loc = barrel.getLocation();
 
         // 检查是否已经在运行
-        if (activeSessions.containsKey(loc))
+        if (registry.isActive(loc))
             return;
 
         // 尝试启动 (复用逻辑)
@@ -340,9 +382,9 @@ public class SluiceManager implements Listener {
         }
 
         int stars = 1;
-        if (input.getItemMeta().getPersistentDataContainer().has(Keys.CLUSTER_QUALITY_KEY,
+        if (input.getPersistentDataContainer().has(Keys.CLUSTER_QUALITY_KEY,
                 PersistentDataType.INTEGER)) {
-            int val = input.getItemMeta().getPersistentDataContainer().get(Keys.CLUSTER_QUALITY_KEY,
+            int val = input.getPersistentDataContainer().get(Keys.CLUSTER_QUALITY_KEY,
                     PersistentDataType.INTEGER);
             if (val <= 5)
                 stars = val;
@@ -355,10 +397,10 @@ public class SluiceManager implements Listener {
             hasSolvent = true;
         }
 
-        int seconds = plugin.getConfigManager().getInt("machines.sluice.processing_times.tier_" + stars, 20);
+        int seconds = plugin.getConfigManager().getSettings().sluice().processingSeconds(stars);
         int tier = pdc.getOrDefault(Keys.SLUICE_TIER, PersistentDataType.INTEGER, 1);
 
-        SluiceSession session = new SluiceSession(seconds, seconds, stars, hasSolvent, tier);
+        SluiceSession session = new SluiceSession(loc, seconds, seconds, stars, hasSolvent, tier);
 
         // 扣除物品
         if (input.getAmount() <= 1)
@@ -382,7 +424,7 @@ public class SluiceManager implements Listener {
         // 关键修复：直接更新传入的 PDC，避免双重 Snapshot 冲突
         applySessionToPdc(pdc, session);
 
-        activeSessions.put(loc, session);
+        registry.activate(session, currentSecond + Math.max(1, seconds));
 
         // 优化：不再在 startProcessing 中立即调用 update(true)
         // 1. inv 是 Live Inventory，setItem 会直接更新 TileEntity 的物品数据
@@ -400,11 +442,11 @@ public class SluiceManager implements Listener {
     }
 
     public boolean isProcessing(Location loc) {
-        return activeSessions.containsKey(loc) || pendingSessions.containsKey(loc);
+        return registry.isActive(loc) || registry.isPending(loc);
     }
 
     private void loadActiveSluices() {
-        activeSessions.clear();
+        registry.clear();
         for (org.bukkit.World world : org.bukkit.Bukkit.getWorlds()) {
             for (org.bukkit.Chunk chunk : world.getLoadedChunks()) {
                 restoreSluicesInChunk(chunk);
@@ -413,32 +455,38 @@ public class SluiceManager implements Listener {
     }
 
     private void restoreSluicesInChunk(org.bukkit.Chunk chunk) {
+        // 1. 从内存恢复挂起的会话 (只看本区块)
+        for (SluiceSession session : registry.removePendingInChunk(chunk.getWorld().getUID(), chunk.getChunkKey())) {
+            // Just resume, no simulation
+            resume(session);
+        }
+
+        // 2. 从磁盘加载尚未在内存中的会话
         for (BlockState state : chunk.getTileEntities()) {
             if (state instanceof Barrel) {
                 PersistentDataContainer pdc = ((Barrel) state).getPersistentDataContainer();
                 if (pdc.has(Keys.SLUICE_PROCESSING_TIME, PersistentDataType.INTEGER)) {
-                    SluiceSession session = loadSessionFromPdc(pdc);
                     Location loc = state.getLocation();
-
-                    if (pendingSessions.containsKey(loc)) {
-                        // Restore from pending (memory)
-                        activeSessions.put(loc, pendingSessions.remove(loc));
-                    } else if (!activeSessions.containsKey(loc)) {
+                    if (!registry.isActive(loc)) {
                         // Initial load from disk - JUST LOAD, NO SIMULATION
-                        activeSessions.put(loc, session);
+                        resume(loadSessionFromPdc(loc, pdc));
                     }
                 }
             }
         }
     }
 
-    private SluiceSession loadSessionFromPdc(PersistentDataContainer pdc) {
+    private void resume(SluiceSession session) {
+        registry.activate(session, currentSecond + Math.max(1, session.time));
+    }
+
+    private SluiceSession loadSessionFromPdc(Location loc, PersistentDataContainer pdc) {
         int time = pdc.getOrDefault(Keys.SLUICE_PROCESSING_TIME, PersistentDataType.INTEGER, 0);
         int maxTime = pdc.getOrDefault(Keys.SLUICE_MAX_TIME, PersistentDataType.INTEGER, 20);
         int stars = pdc.getOrDefault(Keys.SLUICE_QUALITY, PersistentDataType.INTEGER, 1);
         boolean hasSolvent = pdc.getOrDefault(Keys.SLUICE_HAS_SOLVENT, PersistentDataType.BYTE, (byte) 0) == 1;
         int tier = pdc.getOrDefault(Keys.SLUICE_TIER, PersistentDataType.INTEGER, 1);
-        return new SluiceSession(time, maxTime, stars, hasSolvent, tier);
+        return new SluiceSession(loc, time, maxTime, stars, hasSolvent, tier);
     }
 
     private void applySessionToPdc(PersistentDataContainer pdc, SluiceSession session) {
@@ -461,36 +509,16 @@ public class SluiceManager implements Listener {
 
     @EventHandler
     public void onChunkLoad(ChunkLoadEvent event) {
-        for (BlockState state : event.getChunk().getTileEntities()) {
-            if (state instanceof Barrel) {
-                Location loc = state.getLocation();
-                if (pendingSessions.containsKey(loc)) {
-                    SluiceSession session = pendingSessions.remove(loc);
-                    // Just resume, no simulation
-                    activeSessions.put(loc, session);
-                } else {
-                    PersistentDataContainer pdc = ((Barrel) state).getPersistentDataContainer();
-                    if (pdc.has(Keys.SLUICE_PROCESSING_TIME, PersistentDataType.INTEGER)) {
-                        SluiceSession session = loadSessionFromPdc(pdc);
-                        // Just resume, no simulation
-                        activeSessions.put(loc, session);
-                    }
-                }
-            }
-        }
+        restoreSluicesInChunk(event.getChunk());
     }
 
     @EventHandler
     public void onChunkUnload(ChunkUnloadEvent event) {
-        Iterator<Map.Entry<Location, SluiceSession>> it = activeSessions.entrySet().iterator();
-        while (it.hasNext()) {
-            Map.Entry<Location, SluiceSession> entry = it.next();
-            if (entry.getKey().getChunk().equals(event.getChunk())) {
-                SluiceSession session = entry.getValue();
-                saveSessionToPdc(entry.getKey(), session);
-                pendingSessions.put(entry.getKey(), session);
-                it.remove();
-            }
+        org.bukkit.Chunk chunk = event.getChunk();
+        for (SluiceSession session : registry.removeActiveInChunk(chunk.getWorld().getUID(), chunk.getChunkKey())) {
+            session.time = remainingSeconds(session);
+            saveSessionToPdc(session.location, session);
+            registry.addPending(session);
         }
     }
 
@@ -515,16 +543,17 @@ public class SluiceManager implements Listener {
     }
 
     public void removeSluice(Location loc) {
-        activeSessions.remove(loc);
-        pendingSessions.remove(loc);
+        registry.removeActive(loc);
+        registry.removePending(loc);
     }
 
     public void shutdown() {
-        for (Map.Entry<Location, SluiceSession> entry : activeSessions.entrySet()) {
-            saveSessionToPdc(entry.getKey(), entry.getValue());
+        for (SluiceSession session : registry.allActive()) {
+            session.time = remainingSeconds(session);
+            saveSessionToPdc(session.location, session);
         }
-        activeSessions.clear();
-        pendingSessions.clear();
+        registry.clear();
+        viewers.clear();
     }
 
     public List<Integer> getOutputSlotsForTier(int tier) {
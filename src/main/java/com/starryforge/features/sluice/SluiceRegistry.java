@@ -0,0 +1,233 @@
+package com.starryforge.features.sluice;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 洗矿台会话注册表。
+ * <p>
+ * 会话按 世界 -> 区块 -> 位置 建立索引，区块加载/卸载只需处理该区块内的会话；
+ * 活跃会话同时挂在一个哈希时间轮上（按下一次完成的秒数分桶），
+ * 定时器每秒只取出到期的那一个桶，而不是遍历全部会话。
+ */
+class SluiceRegistry {
+
+    // 时间轮大小 (秒)，需为 2 的幂。超过一圈的会话留在桶中等待后续轮次
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    // 活跃会话：区块已加载且正在运行
+    private final Map<UUID, Map<Long, Map<Location, SluiceManager.SluiceSession>>> active = new HashMap<>();
+    // 挂起会话：区块已卸载，等待加载
+    private final Map<UUID, Map<Long, Map<Location, SluiceManager.SluiceSession>>> pending = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    private final Set<SluiceManager.SluiceSession>[] wheel = new Set[WHEEL_SIZE];
+
+    private int activeCount = 0;
+
+    SluiceRegistry() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new LinkedHashSet<>();
+        }
+    }
+
+    static long chunkKey(Location loc) {
+        return Chunk.getChunkKey(loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+    }
+
+    // --- 活跃会话 ---
+
+    SluiceManager.SluiceSession getActive(Location loc) {
+        Map<Location, SluiceManager.SluiceSession> chunk = chunkOf(active, loc, false);
+        return chunk == null ? null : chunk.get(loc);
+    }
+
+    boolean isActive(Location loc) {
+        return getActive(loc) != null;
+    }
+
+    int activeCount() {
+        return activeCount;
+    }
+
+    /**
+     * 注册活跃会话并在 dueSecond 时刻调度。
+     */
+    void activate(SluiceManager.SluiceSession session, long dueSecond) {
+        SluiceManager.SluiceSession previous = chunkOf(active, session.location, true).put(session.location, session);
+        if (previous == null) {
+            activeCount++;
+        } else if (previous != session) {
+            unschedule(previous);
+        }
+        schedule(session, dueSecond);
+    }
+
+    SluiceManager.SluiceSession removeActive(Location loc) {
+        SluiceManager.SluiceSession session = removeFrom(active, loc);
+        if (session != null) {
+            activeCount--;
+            unschedule(session);
+        }
+        return session;
+    }
+
+    /**
+     * 移除并返回指定区块内的全部活跃会话。
+     */
+    List<SluiceManager.SluiceSession> removeActiveInChunk(UUID worldId, long chunkKey) {
+        Map<Long, Map<Location, SluiceManager.SluiceSession>> chunks = active.get(worldId);
+        if (chunks == null)
+            return Collections.emptyList();
+        Map<Location, SluiceManager.SluiceSession> sessions = chunks.remove(chunkKey);
+        if (sessions == null)
+            return Collections.emptyList();
+        if (chunks.isEmpty()) {
+            active.remove(worldId);
+        }
+        activeCount -= sessions.size();
+        for (SluiceManager.SluiceSession session : sessions.values()) {
+            unschedule(session);
+        }
+        return new ArrayList<>(sessions.values());
+    }
+
+    Collection<SluiceManager.SluiceSession> allActive() {
+        List<SluiceManager.SluiceSession> result = new ArrayList<>(activeCount);
+        for (Map<Long, Map<Location, SluiceManager.SluiceSession>> chunks : active.values()) {
+            for (Map<Location, SluiceManager.SluiceSession> sessions : chunks.values()) {
+                result.addAll(sessions.values());
+            }
+        }
+        return result;
+    }
+
+    // --- 挂起会话 ---
+
+    boolean isPending(Location loc) {
+        Map<Location, SluiceManager.SluiceSession> chunk = chunkOf(pending, loc, false);
+        return chunk != null && chunk.containsKey(loc);
+    }
+
+    void addPending(SluiceManager.SluiceSession session) {
+        chunkOf(pending, session.location, true).put(session.location, session);
+    }
+
+    SluiceManager.SluiceSession removePending(Location loc) {
+        return removeFrom(pending, loc);
+    }
+
+    /**
+     * 移除并返回指定区块内的全部挂起会话。
+     */
+    List<SluiceManager.SluiceSession> removePendingInChunk(UUID worldId, long chunkKey) {
+        Map<Long, Map<Location, SluiceManager.SluiceSession>> chunks = pending.get(worldId);
+        if (chunks == null)
+            return Collections.emptyList();
+        Map<Location, SluiceManager.SluiceSession> sessions = chunks.remove(chunkKey);
+        if (chunks.isEmpty()) {
+            pending.remove(worldId);
+        }
+        return sessions == null ? Collections.emptyList() : new ArrayList<>(sessions.values());
+    }
+
+    // --- 时间轮 ---
+
+    void reschedule(SluiceManager.SluiceSession session, long dueSecond) {
+        unschedule(session);
+        schedule(session, dueSecond);
+    }
+
+    /**
+     * 取出所有在 nowSecond 或之前到期的会话。只访问当前秒对应的一个桶。
+     */
+    List<SluiceManager.SluiceSession> pollDue(long nowSecond) {
+        Set<SluiceManager.SluiceSession> bucket = wheel[(int) (nowSecond & WHEEL_MASK)];
+        if (bucket.isEmpty())
+            return Collections.emptyList();
+
+        List<SluiceManager.SluiceSession> due = new ArrayList<>();
+        for (SluiceManager.SluiceSession session : bucket) {
+            if (session.dueSecond <= nowSecond) {
+                due.add(session);
+            }
+        }
+        for (SluiceManager.SluiceSession session : due) {
+            bucket.remove(session);
+            session.wheelSlot = -1;
+        }
+        return due;
+    }
+
+    void clear() {
+        active.clear();
+        pending.clear();
+        for (Set<SluiceManager.SluiceSession> bucket : wheel) {
+            bucket.clear();
+        }
+        activeCount = 0;
+    }
+
+    private void schedule(SluiceManager.SluiceSession session, long dueSecond) {
+        session.dueSecond = dueSecond;
+        session.wheelSlot = (int) (dueSecond & WHEEL_MASK);
+        wheel[session.wheelSlot].add(session);
+    }
+
+    private void unschedule(SluiceManager.SluiceSession session) {
+        if (session.wheelSlot >= 0) {
+            wheel[session.wheelSlot].remove(session);
+            session.wheelSlot = -1;
+        }
+    }
+
+    private static Map<Location, SluiceManager.SluiceSession> chunkOf(
+            Map<UUID, Map<Long, Map<Location, SluiceManager.SluiceSession>>> index, Location loc, boolean create) {
+        UUID worldId = loc.getWorld().getUID();
+        Map<Long, Map<Location, SluiceManager.SluiceSession>> chunks = index.get(worldId);
+        if (chunks == null) {
+            if (!create)
+                return null;
+            chunks = new HashMap<>();
+            index.put(worldId, chunks);
+        }
+        long key = chunkKey(loc);
+        Map<Location, SluiceManager.SluiceSession> sessions = chunks.get(key);
+        if (sessions == null && create) {
+            sessions = new HashMap<>();
+            chunks.put(key, sessions);
+        }
+        return sessions;
+    }
+
+    private static SluiceManager.SluiceSession removeFrom(
+            Map<UUID, Map<Long, Map<Location, SluiceManager.SluiceSession>>> index, Location loc) {
+        UUID worldId = loc.getWorld().getUID();
+        Map<Long, Map<Location, SluiceManager.SluiceSession>> chunks = index.get(worldId);
+        if (chunks == null)
+            return null;
+        long key = chunkKey(loc);
+        Map<Location, SluiceManager.SluiceSession> sessions = chunks.get(key);
+        if (sessions == null)
+            return null;
+        SluiceManager.SluiceSession removed = sessions.remove(loc);
+        if (sessions.isEmpty()) {
+            chunks.remove(key);
+            if (chunks.isEmpty()) {
+                index.remove(worldId);
+            }
+        }
+        return removed;
+    }
+}
@@ -59,25 +59,24 @@ public class StarryForgeProvider implements NexusItemProvider, Listener {
         try {
             com.starryforge.features.alloy.AlloyManager alloyManager = plugin.getAlloyManager();
             if (alloyManager != null) {
-                for (com.starryforge.features.alloy.AlloyManager.AlloyRecipe r : alloyManager.getRecipes()) {
-                    if ((id != null && id.equalsIgnoreCase(r.resultId()))
-                            || (id == null && item.getType().name().equalsIgnoreCase(r.resultId()))) {
-                        RecipeDisplay nr = new RecipeDisplay(RecipeType.ALLOY);
-                        int slot = 0;
-                        for (Map.Entry<String, Integer> entry : r.inputs().entrySet()) {
-                            ItemStack ing = plugin.getItemManager().getItem(entry.getKey());
-                            if (ing == null) {
-                                Material mat = Material.matchMaterial(entry.getKey());
-                                if (mat != null)
-                                    ing = new ItemStack(mat);
-                            }
-                            if (ing != null) {
-                                ing.setAmount(entry.getValue());
-                                nr.addIngredient(slot++, ing);
-                            }
+                com.starryforge.features.alloy.AlloyManager.AlloyRecipe r = alloyManager
+                        .getRecipeByResult(id != null ? id : item.getType().name());
+                if (r != null) {
+                    RecipeDisplay nr = new RecipeDisplay(RecipeType.ALLOY);
+                    int slot = 0;
+                    for (Map.Entry<String, Integer> entry : r.inputs().entrySet()) {
+                        ItemStack ing = plugin.getItemManager().getItem(entry.getKey());
+                        if (ing == null) {
+                            Material mat = Material.matchMaterial(entry.getKey());
+                            if (mat != null)
+                                ing = new ItemStack(mat);
+                        }
+                        if (ing != null) {
+                            ing.setAmount(entry.getValue());
+                            nr.addIngredient(slot++, ing);
                         }
-                        return nr;
                     }
+                    return nr;
                 }
             }
         } catch (Exception e) {
@@ -87,22 +86,21 @@ public class StarryForgeProvider implements NexusItemProvider, Listener {
         try {
             com.starryforge.features.forging.ForgingRecipeManager forgingManager = plugin.getForgingRecipeManager();
             if (forgingManager != null) {
-                for (com.starryforge.features.forging.ForgingRecipeManager.ForgingRecipe r : forgingManager.getRecipes()
-                        .values()) {
-                    if ((id != null && id.equalsIgnoreCase(r.getResultItem()))
-                            || (id == null && item.getType().name().equalsIgnoreCase(r.getResultItem()))) {
-                        RecipeDisplay nr = new RecipeDisplay(RecipeType.ASTRAL);
-                        ItemStack input = plugin.getItemManager().getItem(r.getInputItem());
-                        if (input == null) {
-                            Material mat = Material.matchMaterial(r.getInputItem());
-                            if (mat != null)
-                                input = new ItemStack(mat);
-                        }
-                        if (input != null) {
-                            nr.addIngredient(0, input);
-                        }
-                        return nr;
+                List<com.starryforge.features.forging.ForgingRecipeManager.ForgingRecipe> matches = forgingManager
+                        .getRecipesByOutput(id != null ? id : item.getType().name());
+                if (!matches.isEmpty()) {
+                    com.starryforge.features.forging.ForgingRecipeManager.ForgingRecipe r = matches.get(0);
+                    RecipeDisplay nr = new RecipeDisplay(RecipeType.ASTRAL);
+                    ItemStack input = plugin.getItemManager().getItem(r.getInputItem());
+                    if (input == null) {
+                        Material mat = Material.matchMaterial(r.getInputItem());
+                        if (mat != null)
+                            input = new ItemStack(mat);
+                    }
+                    if (input != null) {
+                        nr.addIngredient(0, input);
                     }
+                    return nr;
                 }
             }
         } catch (Exception e) {
@@ -0,0 +1,133 @@
+package com.starryforge.utils;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rendering cache for high-frequency HUD text (action bars).
+ * <p>
+ * Action bars are re-sent every tick but only cycle through a small set of
+ * distinct strings (same progress bar, same temperature bucket, same stack
+ * count), so parsed components are memoized by their final MiniMessage source.
+ * Templates with {placeholder} slots are split once into literal/slot segments
+ * so filling them is a single append pass instead of repeated String.replace.
+ */
+public final class HudText {
+
+    private static final int MAX_ENTRIES = 2048;
+    private static final MiniMessage MM = MiniMessage.miniMessage();
+
+    private static final Map<String, Component> RENDERED = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Component> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private static final Map<String, Template> TEMPLATES = new ConcurrentHashMap<>();
+
+    private HudText() {
+    }
+
+    /**
+     * Parse MiniMessage text, reusing the component if the same text was rendered before.
+     * Components are immutable, so the cached instance can be sent to any player.
+     */
+    public static Component parse(String miniMessage) {
+        synchronized (RENDERED) {
+            Component cached = RENDERED.get(miniMessage);
+            if (cached != null)
+                return cached;
+        }
+        Component component = MM.deserialize(miniMessage);
+        synchronized (RENDERED) {
+            RENDERED.put(miniMessage, component);
+        }
+        return component;
+    }
+
+    /**
+     * Get the compiled template for raw text with {name} slots.
+     * Keyed by the raw text, so a changed language file compiles a new template.
+     */
+    public static Template template(String raw) {
+        return TEMPLATES.computeIfAbsent(raw, Template::new);
+    }
+
+    /**
+     * Drop all cached components and templates (called on /sf reload).
+     */
+    public static void clear() {
+        synchronized (RENDERED) {
+            RENDERED.clear();
+        }
+        TEMPLATES.clear();
+    }
+
+    /**
+     * MiniMessage template with named {slot} placeholders.
+     */
+    public static final class Template {
+        // literals.length == slots.length + 1
+        private final String[] literals;
+        private final String[] slots;
+
+        private Template(String raw) {
+            List<String> literalList = new ArrayList<>();
+            List<String> slotList = new ArrayList<>();
+            int pos = 0;
+            while (true) {
+                int open = raw.indexOf('{', pos);
+                int close = open < 0 ? -1 : raw.indexOf('}', open + 1);
+                if (open < 0 || close < 0) {
+                    literalList.add(raw.substring(pos));
+                    break;
+                }
+                literalList.add(raw.substring(pos, open));
+                slotList.add(raw.substring(open + 1, close));
+                pos = close + 1;
+            }
+            this.literals = literalList.toArray(new String[0]);
+            this.slots = slotList.toArray(new String[0]);
+        }
+
+        /**
+         * Fill the slots. Arguments are name/value pairs; unknown slots are kept verbatim.
+         */
+        public String fill(String... namesAndValues) {
+            StringBuilder sb = new StringBuilder(64);
+            for (int i = 0; i < slots.length; i++) {
+                sb.append(literals[i]);
+                String value = lookup(slots[i], namesAndValues);
+                if (value != null) {
+                    sb.append(value);
+                } else {
+                    sb.append('{').append(slots[i]).append('}');
+                }
+            }
+            sb.append(literals[literals.length - 1]);
+            return sb.toString();
+        }
+
+        /**
+         * Fill the slots and return the memoized component.
+         */
+        public Component render(String... namesAndValues) {
+            return parse(fill(namesAndValues));
+        }
+
+        private static String lookup(String slot, String[] namesAndValues) {
+            for (int i = 0; i + 1 < namesAndValues.length; i += 2) {
+                if (namesAndValues[i].equals(slot))
+                    return namesAndValues[i + 1];
+            }
+            return null;
+        }
+    }
+}
@@ -40,6 +40,8 @@ public final class Keys {
     // Alloy Machine Persistence
     public static final NamespacedKey ALLOY_OUTPUT_ITEM = create("sf_alloy_output_item");
     public static final NamespacedKey ALLOY_OUTPUT_TIME = create("sf_alloy_output_time");
+    public static final NamespacedKey ALLOY_INPUTS = create("sf_alloy_inputs"); // 多槽位容器 (BYTE_ARRAY)
+    // 旧格式：每个输入槽单独保存 Base64 字符串，读取时兼容
     public static final NamespacedKey ALLOY_INPUT_0 = create("sf_alloy_input_0");
     public static final NamespacedKey ALLOY_INPUT_1 = create("sf_alloy_input_1");
     public static final NamespacedKey ALLOY_INPUT_2 = create("sf_alloy_input_2");
@@ -70,6 +72,9 @@ public final class Keys {
     public static final NamespacedKey ALTAR_CURRENT_INGOT = create("sf_altar_current_ingot");
     public static final NamespacedKey ALTAR_RECIPE_ID = create("sf_altar_recipe_id");
 
+    // Anti-Exploit: 玩家放置方块位图 (区块 PDC)
+    public static final NamespacedKey PLACED_BLOCKS = create("sf_placed_blocks");
+
     // IronHeart
     public static final NamespacedKey BLUEPRINT_TARGET = create("blueprint_target");
 }
@@ -1,17 +1,183 @@
 package com.starryforge.utils;
 
+import org.bukkit.NamespacedKey;
 import org.bukkit.util.io.BukkitObjectInputStream;
 import org.bukkit.util.io.BukkitObjectOutputStream;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
 import org.yaml.snakeyaml.external.biz.base64Coder.Base64Coder;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.Base64;
 
+/**
+ * ItemStack 序列化。
+ * <p>
+ * 新数据使用 Paper 的 {@link ItemStack#serializeAsBytes()} (NBT 二进制，带数据版本，可跨版本升级)：
+ * PDC 中直接存 BYTE_ARRAY，文本存储 (YAML/日志) 使用带 "b1:" 前缀的单行 Base64。
+ * 旧的 BukkitObjectOutputStream + Base64 数据仍可读取，下次写入时自动转为新格式。
+ */
 @SuppressWarnings("deprecation")
 public class SerializationUtils {
 
+    // 文本格式前缀，用于区分旧的 Java 序列化 Base64
+    private static final String BINARY_PREFIX = "b1:";
+    // 多槽位容器格式版本
+    static final byte CONTAINER_VERSION = 1;
+
+    /**
+     * 单个物品的二进制编解码。测试中替换为其他实现 (MockBukkit 未实现 serializeAsBytes)。
+     */
+    interface BinaryCodec {
+        byte[] encode(ItemStack item);
+
+        ItemStack decode(byte[] data);
+    }
+
+    static final BinaryCodec PAPER_CODEC = new BinaryCodec() {
+        @Override
+        public byte[] encode(ItemStack item) {
+            return item.serializeAsBytes();
+        }
+
+        @Override
+        public ItemStack decode(byte[] data) {
+            return ItemStack.deserializeBytes(data);
+        }
+    };
+
+    static BinaryCodec binary = PAPER_CODEC;
+
+    // ===== 二进制 (Paper) =====
+
+    public static byte[] itemToBytes(ItemStack item) {
+        return binary.encode(item);
+    }
+
+    public static ItemStack itemFromBytes(byte[] data) {
+        return binary.decode(data);
+    }
+
+    /**
+     * 把多个槽位编码为一个紧凑容器：版本、槽位数，以及每个槽位的 长度 + 数据 (长度 0 为空槽)。
+     */
+    public static byte[] itemsToBytes(ItemStack[] items) throws IOException {
+        byte[][] slots = new byte[items.length][];
+        for (int i = 0; i < items.length; i++) {
+            ItemStack item = items[i];
+            if (item != null && !item.getType().isAir()) {
+                slots[i] = binary.encode(item);
+            }
+        }
+        return frame(slots);
+    }
+
+    public static ItemStack[] itemsFromBytes(byte[] data) throws IOException {
+        byte[][] slots = unframe(data);
+        ItemStack[] items = new ItemStack[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null) {
+                items[i] = binary.decode(slots[i]);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 容器格式的封装，null 表示空槽。
+     */
+    static byte[] frame(byte[][] slots) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(CONTAINER_VERSION);
+            out.writeShort(slots.length);
+            for (byte[] slot : slots) {
+                if (slot == null) {
+                    out.writeInt(0);
+                } else {
+                    out.writeInt(slot.length);
+                    out.write(slot);
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    static byte[][] unframe(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != CONTAINER_VERSION)
+                throw new IOException("Unsupported item container version: " + version);
+            byte[][] slots = new byte[in.readUnsignedShort()][];
+            for (int i = 0; i < slots.length; i++) {
+                int length = in.readInt();
+                if (length < 0 || length > in.available())
+                    throw new IOException("Truncated item container at slot " + i);
+                if (length > 0) {
+                    slots[i] = new byte[length];
+                    in.readFully(slots[i]);
+                }
+            }
+            return slots;
+        }
+    }
+
+    // ===== PDC =====
+
+    /**
+     * 从 PDC 读取物品，兼容旧的 Base64 字符串。
+     */
+    public static ItemStack readItem(PersistentDataContainer pdc, NamespacedKey key) throws IOException {
+        // 类型不符时 get 会抛异常而不是返回 null，需先判断实际存储的类型
+        if (pdc.has(key, PersistentDataType.BYTE_ARRAY))
+            return itemFromBytes(pdc.get(key, PersistentDataType.BYTE_ARRAY));
+        if (pdc.has(key, PersistentDataType.STRING))
+            return itemFromBase64(pdc.get(key, PersistentDataType.STRING));
+        return null;
+    }
+
+    public static boolean hasItem(PersistentDataContainer pdc, NamespacedKey key) {
+        return pdc.has(key, PersistentDataType.BYTE_ARRAY) || pdc.has(key, PersistentDataType.STRING);
+    }
+
+    /**
+     * 以二进制格式写入物品 (覆盖旧格式)。
+     */
+    public static void writeItem(PersistentDataContainer pdc, NamespacedKey key, ItemStack item) {
+        pdc.remove(key);
+        pdc.set(key, PersistentDataType.BYTE_ARRAY, itemToBytes(item));
+    }
+
+    // ===== 文本 =====
+
+    /**
+     * 编码为单行文本 (二进制格式)。
+     */
+    public static String itemToString(ItemStack item) {
+        return BINARY_PREFIX + Base64.getEncoder().encodeToString(binary.encode(item));
+    }
+
+    /**
+     * 解码 {@link #itemToString} 的结果，或旧的 {@link #itemToBase64} 数据。
+     */
+    public static ItemStack itemFromString(String data) throws IOException {
+        if (data.startsWith(BINARY_PREFIX)) {
+            try {
+                return binary.decode(Base64.getDecoder().decode(data.substring(BINARY_PREFIX.length())));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid item data", e);
+            }
+        }
+        return itemFromBase64(data);
+    }
+
+    // ===== 旧格式 (Java 序列化) =====
+
     public static String itemToBase64(ItemStack item) throws IOException {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         BukkitObjectOutputStream dataOutput = new BukkitObjectOutputStream(outputStream);
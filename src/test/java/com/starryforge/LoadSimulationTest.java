@@ -0,0 +1,235 @@
+package com.starryforge;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import com.starryforge.features.alloy.AlloyManager;
+import com.starryforge.features.alloy.ThermodynamicsManager;
+import com.starryforge.features.core.PerfMonitor;
+import com.starryforge.features.forging.ForgingSession;
+import com.starryforge.features.multiblock.StructurePattern;
+import com.starryforge.features.sluice.SluiceManager;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Barrel;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 负载模拟：N 名玩家、M 台淘金槽、K 座合金高炉、若干锻造台与高温掉落物同时运行，
+ * 推进服务器 tick 后用 PerfMonitor 的统计检查 loadtest-budgets.yml 中的每 tick 耗时与分配预算。
+ * <p>
+ * 标记为 load，默认的 mvn test 不运行；使用 {@code mvn -Ploadtest test} 单独运行。
+ * 规模可通过系统属性调整，例如 {@code -Dloadtest.players=200 -Dloadtest.sluices=100}；
+ * loadtest.budgetScale 用于在较慢的机器上放宽耗时预算。
+ */
+@Tag("load")
+class LoadSimulationTest {
+
+    private static final int PLAYERS = Integer.getInteger("loadtest.players", 100);
+    private static final int SLUICES = Integer.getInteger("loadtest.sluices", 50);
+    private static final int FURNACES = Integer.getInteger("loadtest.furnaces", 20);
+    private static final int ALTARS = Integer.getInteger("loadtest.altars", 10);
+    private static final int HOT_ITEMS = Integer.getInteger("loadtest.hotItems", 200);
+    private static final int WARMUP_TICKS = Integer.getInteger("loadtest.warmupTicks", 200);
+    private static final int TICKS = Integer.getInteger("loadtest.ticks", 1200);
+    private static final double BUDGET_SCALE = Double.parseDouble(System.getProperty("loadtest.budgetScale", "1.0"));
+
+    private static final int BASE_Y = 100;
+    private static final int SPACING = 8;
+
+    private ServerMock server;
+    private StarryForge plugin;
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        world = server.addSimpleWorld("world");
+        // 测试用 plugin.yml 去掉了 NexusCore 硬依赖，相关功能由 isPluginEnabled 检查跳过
+        plugin = MockBukkit.loadWith(StarryForge.class, "plugin-loadtest.yml");
+        assertTrue(plugin.isEnabled(), "插件启用失败");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void staysWithinTickBudgets(TestReporter reporter) throws Exception {
+        ConfigurationSection budgets = loadBudgets();
+        List<PlayerMock> players = spawnPlayers();
+        spawnSluices();
+        spawnFurnaces(players);
+        spawnAltars(players);
+        spawnHotItems();
+
+        PerfMonitor perf = plugin.getPerfMonitor();
+        assertNotNull(perf, "PerfMonitor 未初始化");
+
+        // 预热：让 JIT、缓存和会话进入稳定状态后再开始统计
+        server.getScheduler().performTicks(WARMUP_TICKS);
+        perf.startProfiling();
+        server.getScheduler().performTicks(TICKS);
+        perf.stop();
+
+        Map<String, String> report = new LinkedHashMap<>();
+        report.put("scale", String.format(Locale.ROOT, "%d players, %d sluices, %d furnaces, %d altars, %d items, %d ticks",
+                PLAYERS, SLUICES, FURNACES, ALTARS, HOT_ITEMS, TICKS));
+        List<String> overruns = new ArrayList<>();
+        for (PerfMonitor.Section section : PerfMonitor.Section.values()) {
+            long ticks = perf.activeTicks(section);
+            if (ticks == 0)
+                continue;
+            double p95 = perf.tickPercentileMillis(section, 0.95);
+            long alloc = perf.allocatedBytesPerTick(section);
+            double p95Budget = budgets.getDouble(section.id() + ".p95_ms", 0) * BUDGET_SCALE;
+            long allocBudget = budgets.getLong(section.id() + ".alloc_bytes_per_tick", 0);
+            report.put(section.id(), String.format(Locale.ROOT,
+                    "ticks=%d p95=%.3fms max=%.3fms alloc/tick=%dB (budget %.2fms, %dB)",
+                    ticks, p95, perf.tickPercentileMillis(section, 1.0), alloc, p95Budget, allocBudget));
+            if (p95Budget > 0 && p95 > p95Budget) {
+                overruns.add(String.format(Locale.ROOT, "%s p95 %.3fms > %.2fms", section.id(), p95, p95Budget));
+            }
+            if (allocBudget > 0 && alloc > allocBudget) {
+                overruns.add(String.format(Locale.ROOT, "%s alloc %dB/tick > %dB", section.id(), alloc, allocBudget));
+            }
+        }
+        reporter.publishEntry(report);
+
+        assertTrue(perf.activeTicks(PerfMonitor.Section.SLUICE) > 0 || SLUICES == 0, "淘金槽未被调度");
+        assertTrue(perf.activeTicks(PerfMonitor.Section.THERMODYNAMICS) > 0, "热力学未被调度");
+        assertTrue(overruns.isEmpty(), "超出预算: " + overruns);
+    }
+
+    private List<PlayerMock> spawnPlayers() {
+        ThermodynamicsManager thermo = plugin.getThermodynamicsManager();
+        List<PlayerMock> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            PlayerMock player = server.addPlayer();
+            ItemStack hot = new ItemStack(Material.IRON_INGOT);
+            thermo.setTemperature(hot, 1200);
+            player.getInventory().addItem(hot);
+            thermo.trackHolder(player);
+            players.add(player);
+        }
+        return players;
+    }
+
+    private void spawnSluices() {
+        SluiceManager sluices = plugin.getSluiceManager();
+        ItemStack cluster = plugin.getItemManager().getItem("UNIDENTIFIED_CLUSTER");
+        assertNotNull(cluster, "缺少 UNIDENTIFIED_CLUSTER 物品定义");
+
+        for (int i = 0; i < SLUICES; i++) {
+            Block block = world.getBlockAt(i * SPACING, BASE_Y, 0);
+            block.getChunk().load();
+            block.setType(Material.BARREL);
+            sluices.registerSluice(block, 1);
+
+            Barrel barrel = (Barrel) block.getState();
+            barrel.getInventory().setItem(SluiceManager.SLOT_INPUT, cluster.clone());
+            sluices.startProcessing(barrel, barrel.getInventory(), barrel.getPersistentDataContainer());
+            barrel.update(true);
+        }
+    }
+
+    private static ConfigurationSection loadBudgets() throws Exception {
+        try (InputStream in = LoadSimulationTest.class.getClassLoader().getResourceAsStream("loadtest-budgets.yml")) {
+            assertNotNull(in, "缺少 loadtest-budgets.yml");
+            YamlConfiguration config = YamlConfiguration.loadConfiguration(new InputStreamReader(in, StandardCharsets.UTF_8));
+            ConfigurationSection sections = config.getConfigurationSection("sections");
+            assertNotNull(sections, "loadtest-budgets.yml 缺少 sections");
+            return sections;
+        }
+    }
+
+    private void spawnFurnaces(List<PlayerMock> players) throws Exception {
+        AlloyManager alloy = plugin.getAlloyManager();
+        StructurePattern pattern = plugin.getMultiBlockManager().getPattern("alloy_blast_furnace");
+        assertNotNull(pattern, "缺少 alloy_blast_furnace 结构定义");
+        assertFalse(alloy.getRecipes().isEmpty(), "没有可用的合金配方");
+        AlloyManager.AlloyRecipe recipe = alloy.getRecipes().get(0);
+        // 熔炼会话正常由 GUI 启动，这里直接调用私有入口
+        Method startSmelting = AlloyManager.class.getDeclaredMethod("startSmelting", Player.class, Block.class,
+                BlockFace.class, AlloyManager.AlloyRecipe.class, AlloyManager.FluxType.class, List.class);
+        startSmelting.setAccessible(true);
+
+        // 熔炼会话按玩家区分，每座高炉需要一名独立的玩家
+        int furnaces = Math.min(FURNACES, players.size());
+        for (int i = 0; i < furnaces; i++) {
+            Block core = world.getBlockAt(i * SPACING, BASE_Y, 2 * SPACING);
+            core.getChunk().load();
+            build(pattern, core, BlockFace.NORTH);
+
+            BlockFace facing = plugin.getMultiBlockManager().checkStructure(core, "alloy_blast_furnace");
+            assertNotNull(facing, "高炉结构搭建失败: " + core.getLocation());
+            startSmelting.invoke(alloy, players.get(i), core, facing, recipe, AlloyManager.FluxType.NONE, List.of());
+        }
+    }
+
+    private void spawnAltars(List<PlayerMock> players) {
+        for (int i = 0; i < ALTARS; i++) {
+            Block anvil = world.getBlockAt(i * SPACING, BASE_Y, 4 * SPACING);
+            anvil.getChunk().load();
+            anvil.setType(Material.ANVIL);
+
+            ForgingSession session = new ForgingSession(anvil.getLocation(),
+                    players.get(i % players.size()).getUniqueId());
+            try {
+                session.setBlueprint(new ItemStack(Material.PAPER));
+            } catch (UnsupportedOperationException e) {
+                // MockBukkit 未实现展示实体时，会话仍会被调度，只是不计入锻造耗时
+            }
+            plugin.getForgingManager().startSession(anvil.getLocation(), session);
+        }
+    }
+
+    private void spawnHotItems() {
+        ThermodynamicsManager thermo = plugin.getThermodynamicsManager();
+        for (int i = 0; i < HOT_ITEMS; i++) {
+            Block floor = world.getBlockAt((i % 50) * 2, BASE_Y, 6 * SPACING + (i / 50) * 2);
+            floor.getChunk().load();
+            ItemStack hot = new ItemStack(Material.IRON_INGOT);
+            thermo.setTemperature(hot, 1200);
+            Item entity = world.dropItem(floor.getLocation().add(0.5, 1, 0.5), hot);
+            thermo.track(entity);
+        }
+    }
+
+    /**
+     * 按 analyze 给出的预期材质逐个补齐方块，直到结构完整。
+     */
+    private static void build(StructurePattern pattern, Block core, BlockFace facing) {
+        for (Map.Entry<Block, String> entry : pattern.analyze(core, facing).entrySet()) {
+            Material material = Material.matchMaterial(entry.getValue());
+            assertNotNull(material, "无法解析结构材质: " + entry.getValue());
+            entry.getKey().setType(material);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.starryforge.features.alloy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AlloyRecipeIndexTest {
+
+    // 超过 AlloyRecipeIndex.MAX_SUBSET_IDS，随机输入也会覆盖线性扫描的回退路径
+    private static final String[] IDS = {
+            "COPPER_INGOT", "IRON_INGOT", "GOLD_INGOT", "TIN_INGOT", "COAL", "REDSTONE",
+            "QUARTZ", "AMETHYST_SHARD", "LAPIS_LAZULI", "EMERALD", "DIAMOND", "NETHERITE_SCRAP"
+    };
+
+    private static AlloyManager.AlloyRecipe recipe(String resultId, Map<String, Integer> inputs) {
+        return new AlloyManager.AlloyRecipe(resultId, inputs, 5, 1000, 1.0, 1.0, 1.0, true);
+    }
+
+    /**
+     * 参照实现：按配置顺序找到第一个所有输入数量都满足的配方。
+     */
+    private static AlloyManager.AlloyRecipe linearMatch(List<AlloyManager.AlloyRecipe> recipes,
+            Map<String, Integer> counts) {
+        for (AlloyManager.AlloyRecipe recipe : recipes) {
+            boolean ok = true;
+            for (Map.Entry<String, Integer> req : recipe.inputs().entrySet()) {
+                if (counts.getOrDefault(req.getKey(), 0) < req.getValue()) {
+                    ok = false;
+                    break;
+                }
+            }
+            if (ok)
+                return recipe;
+        }
+        return null;
+    }
+
+    @Test
+    void matchesLinearScanOnRandomInputs() {
+        for (long seed = 0; seed < 50; seed++) {
+            Random random = new Random(seed);
+            List<AlloyManager.AlloyRecipe> recipes = randomRecipes(random);
+            AlloyRecipeIndex index = AlloyRecipeIndex.build(recipes);
+
+            for (int i = 0; i < 500; i++) {
+                Map<String, Integer> counts = randomCounts(random);
+                assertSame(linearMatch(recipes, counts), index.match(counts),
+                        "seed=" + seed + " counts=" + counts + " recipes=" + recipes);
+            }
+        }
+    }
+
+    @Test
+    void zeroQuantityInputIsNotRequired() {
+        Map<String, Integer> inputs = new LinkedHashMap<>();
+        inputs.put("COPPER_INGOT", 3);
+        inputs.put("TIN_INGOT", 0);
+        AlloyManager.AlloyRecipe bronze = recipe("BRONZE_INGOT", inputs);
+        AlloyRecipeIndex index = AlloyRecipeIndex.build(List.of(bronze));
+
+        assertSame(bronze, index.match(Map.of("COPPER_INGOT", 3)));
+        assertSame(bronze, index.match(Map.of("COPPER_INGOT", 3, "TIN_INGOT", 1)));
+        assertNull(index.match(Map.of("TIN_INGOT", 4)));
+    }
+
+    @Test
+    void overlappingSignaturesKeepConfigOrder() {
+        AlloyManager.AlloyRecipe large = recipe("LARGE", Map.of("COPPER_INGOT", 4, "TIN_INGOT", 2));
+        AlloyManager.AlloyRecipe small = recipe("SMALL", Map.of("COPPER_INGOT", 2, "TIN_INGOT", 1));
+        AlloyManager.AlloyRecipe subset = recipe("SUBSET", Map.of("COPPER_INGOT", 1));
+        AlloyRecipeIndex index = AlloyRecipeIndex.build(List.of(large, small, subset));
+
+        assertSame(large, index.match(Map.of("COPPER_INGOT", 4, "TIN_INGOT", 2)));
+        assertSame(small, index.match(Map.of("COPPER_INGOT", 3, "TIN_INGOT", 1)));
+        assertSame(subset, index.match(Map.of("COPPER_INGOT", 5)));
+
+        // 配置中靠前的配方优先，即使后面的配方要求更多输入
+        AlloyRecipeIndex reversed = AlloyRecipeIndex.build(List.of(subset, large, small));
+        assertSame(subset, reversed.match(Map.of("COPPER_INGOT", 4, "TIN_INGOT", 2)));
+    }
+
+    private static List<AlloyManager.AlloyRecipe> randomRecipes(Random random) {
+        List<AlloyManager.AlloyRecipe> recipes = new ArrayList<>();
+        int size = 1 + random.nextInt(20);
+        for (int r = 0; r < size; r++) {
+            Map<String, Integer> inputs;
+            if (!recipes.isEmpty() && random.nextInt(4) == 0) {
+                // 复用已有配方的输入集合，只换数量，制造相同签名
+                inputs = new LinkedHashMap<>();
+                for (String id : recipes.get(random.nextInt(recipes.size())).inputs().keySet()) {
+                    inputs.put(id, random.nextInt(5));
+                }
+            } else {
+                inputs = new LinkedHashMap<>();
+                int inputCount = 1 + random.nextInt(4);
+                for (int i = 0; i < inputCount; i++) {
+                    // 数量可能为 0
+                    inputs.put(IDS[random.nextInt(IDS.length)], random.nextInt(5));
+                }
+            }
+            recipes.add(recipe("RESULT_" + r, inputs));
+        }
+        return recipes;
+    }
+
+    private static Map<String, Integer> randomCounts(Random random) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        int distinct = 1 + (random.nextInt(8) == 0 ? random.nextInt(IDS.length) : random.nextInt(5));
+        for (int i = 0; i < distinct; i++) {
+            counts.put(IDS[random.nextInt(IDS.length)], 1 + random.nextInt(6));
+        }
+        return counts;
+    }
+}
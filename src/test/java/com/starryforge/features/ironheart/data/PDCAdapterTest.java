@@ -0,0 +1,93 @@
+package com.starryforge.features.ironheart.data;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import com.google.gson.Gson;
+import com.starryforge.features.ironheart.data.model.IronHeartWeapon;
+import com.starryforge.features.ironheart.data.model.VeteranStats;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PDCAdapterTest {
+
+    private static final NamespacedKey FORGE_DATA_KEY = new NamespacedKey("starfield", "forge_data");
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    private static IronHeartWeapon weapon() {
+        return new IronHeartWeapon(
+                "5f0c7c0e-3f5e-4d8e-9a51-0b1e4c2d7a11",
+                "longsword",
+                3,
+                2,
+                new IronHeartWeapon.Integrity(870, 1000),
+                Map.of("blade", "starsteel_blade", "guard", "frost_guard"),
+                Map.of("blade", 4, "guard", 3),
+                new IronHeartWeapon.StatsCache(9.5, -2.4, 0.5, 0.0),
+                new IronHeartWeapon.History("Smith", 1_700_000_000_000L, new VeteranStats(1520.5, 37, 1)));
+    }
+
+    private static ItemStack legacyItem(IronHeartWeapon weapon) {
+        ItemStack item = new ItemStack(Material.IRON_SWORD);
+        ItemMeta meta = item.getItemMeta();
+        meta.getPersistentDataContainer().set(FORGE_DATA_KEY, PersistentDataType.STRING, new Gson().toJson(weapon));
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    @Test
+    void readsBinaryWeapon() {
+        ItemStack item = new ItemStack(Material.IRON_SWORD);
+        PDCAdapter.writeWeaponData(item, weapon());
+
+        assertEquals(weapon(), PDCAdapter.readWeaponData(item));
+        assertTrue(PDCAdapter.isIronHeartWeapon(item));
+    }
+
+    @Test
+    void readsLegacyJsonWeapon() {
+        ItemStack item = legacyItem(weapon());
+
+        IronHeartWeapon read = PDCAdapter.readWeaponData(item);
+        assertNotNull(read);
+        assertEquals(weapon(), read);
+        assertTrue(PDCAdapter.isIronHeartWeapon(item));
+    }
+
+    @Test
+    void migratesLegacyJsonWeapon() {
+        ItemStack item = legacyItem(weapon());
+
+        assertTrue(PDCAdapter.migrateLegacy(item));
+
+        var pdc = item.getItemMeta().getPersistentDataContainer();
+        assertTrue(pdc.has(FORGE_DATA_KEY, PersistentDataType.BYTE_ARRAY));
+        assertFalse(pdc.has(FORGE_DATA_KEY, PersistentDataType.STRING));
+        assertEquals(weapon(), PDCAdapter.readWeaponData(item));
+        assertEquals(new PDCAdapter.WeaponKey(weapon().uuid(), weapon().revision()),
+                PDCAdapter.readWeaponKey(item.getPersistentDataContainer()));
+
+        // Already migrated items are left alone
+        assertFalse(PDCAdapter.migrateLegacy(item));
+    }
+}
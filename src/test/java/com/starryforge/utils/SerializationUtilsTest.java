@@ -0,0 +1,153 @@
+package com.starryforge.utils;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SerializationUtilsTest {
+
+    private static final NamespacedKey KEY = new NamespacedKey("starryforge", "test_item");
+
+    // MockBukkit 未实现 serializeAsBytes，二进制格式用旧的 Java 序列化代替
+    private static final SerializationUtils.BinaryCodec STUB_CODEC = new SerializationUtils.BinaryCodec() {
+        @Override
+        public byte[] encode(ItemStack item) {
+            try {
+                return SerializationUtils.itemToBase64(item).getBytes(StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public ItemStack decode(byte[] data) {
+            try {
+                return SerializationUtils.itemFromBase64(new String(data, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    };
+
+    private ItemMeta holder;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        SerializationUtils.binary = STUB_CODEC;
+        // 任意物品的 PDC 都可以充当方块 PDC 的替身
+        holder = new ItemStack(Material.STONE).getItemMeta();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SerializationUtils.binary = SerializationUtils.PAPER_CODEC;
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void readsLegacyBase64String() throws IOException {
+        ItemStack stored = new ItemStack(Material.IRON_INGOT, 7);
+        PersistentDataContainer pdc = holder.getPersistentDataContainer();
+        pdc.set(KEY, PersistentDataType.STRING, SerializationUtils.itemToBase64(stored));
+
+        assertTrue(SerializationUtils.hasItem(pdc, KEY));
+        assertEquals(stored, SerializationUtils.readItem(pdc, KEY));
+    }
+
+    @Test
+    void legacyValueSurvivesMigration() throws IOException {
+        ItemStack stored = new ItemStack(Material.IRON_INGOT, 7);
+        PersistentDataContainer pdc = holder.getPersistentDataContainer();
+        pdc.set(KEY, PersistentDataType.STRING, SerializationUtils.itemToBase64(stored));
+
+        // 与 AlloyManager 相同的流程：读出旧数据后以新格式写回
+        ItemStack read = SerializationUtils.readItem(pdc, KEY);
+        SerializationUtils.writeItem(pdc, KEY, read);
+
+        assertTrue(pdc.has(KEY, PersistentDataType.BYTE_ARRAY));
+        assertFalse(pdc.has(KEY, PersistentDataType.STRING));
+        assertEquals(stored, SerializationUtils.readItem(pdc, KEY));
+    }
+
+    @Test
+    void readsBinaryValue() throws IOException {
+        ItemStack stored = new ItemStack(Material.GOLD_INGOT, 3);
+        PersistentDataContainer pdc = holder.getPersistentDataContainer();
+        SerializationUtils.writeItem(pdc, KEY, stored);
+
+        assertTrue(SerializationUtils.hasItem(pdc, KEY));
+        assertEquals(stored, SerializationUtils.readItem(pdc, KEY));
+    }
+
+    @Test
+    void containerRoundTripKeepsEmptySlots() throws IOException {
+        ItemStack[] items = { new ItemStack(Material.IRON_INGOT, 2), null, new ItemStack(Material.AIR),
+                new ItemStack(Material.COAL, 64) };
+
+        ItemStack[] read = SerializationUtils.itemsFromBytes(SerializationUtils.itemsToBytes(items));
+
+        assertArrayEquals(new ItemStack[] { items[0], null, null, items[3] }, read);
+    }
+
+    @Test
+    void framingRoundTrip() throws IOException {
+        byte[][] slots = { { 1, 2, 3 }, null, {}, { 4 } };
+
+        byte[] data = SerializationUtils.frame(slots);
+        byte[][] read = SerializationUtils.unframe(data);
+
+        assertEquals(SerializationUtils.CONTAINER_VERSION, data[0]);
+        assertEquals(slots.length, read.length);
+        assertArrayEquals(slots[0], read[0]);
+        assertNull(read[1]);
+        // 长度 0 与空槽编码相同
+        assertNull(read[2]);
+        assertArrayEquals(slots[3], read[3]);
+    }
+
+    @Test
+    void framingRejectsUnknownVersion() throws IOException {
+        byte[] data = SerializationUtils.frame(new byte[][] { { 1 } });
+        data[0] = (byte) (SerializationUtils.CONTAINER_VERSION + 1);
+
+        assertThrows(IOException.class, () -> SerializationUtils.unframe(data));
+    }
+
+    @Test
+    void framingRejectsTruncatedInput() throws IOException {
+        byte[] data = SerializationUtils.frame(new byte[][] { { 1, 2, 3, 4 }, { 5, 6 } });
+
+        for (int length = 0; length < data.length; length++) {
+            byte[] truncated = Arrays.copyOf(data, length);
+            assertThrows(IOException.class, () -> SerializationUtils.unframe(truncated), "length " + length);
+        }
+    }
+
+    @Test
+    void missingKeyReadsAsNull() throws IOException {
+        PersistentDataContainer pdc = holder.getPersistentDataContainer();
+
+        assertFalse(SerializationUtils.hasItem(pdc, KEY));
+        assertNull(SerializationUtils.readItem(pdc, KEY));
+    }
+}